@@ -1,10 +1,12 @@
 package domain.behavior;
 
+import domain.entities.Enemy;
+import domain.entities.EntityStore;
 import domain.entities.Fruit;
+import domain.entities.Player;
+import domain.game.GameClock;
 import domain.game.Level;
 import domain.model.*;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Random;
 
 /**
@@ -14,7 +16,7 @@ import java.util.Random;
  */
 public class CherryMovement {
 
-    private static final int TICKS_PER_TELEPORT = 1200; // 20 segundos a 60 FPS (20 * 60)
+    private static final long TELEPORT_MILLIS = 20_000;
 
     private int tickCounter = 0;
     private final Random random = new Random();
@@ -25,66 +27,64 @@ public class CherryMovement {
     public void update(Level level, Fruit cherry) {
         tickCounter++;
 
-        if (tickCounter >= TICKS_PER_TELEPORT) {
-            teleportToRandomPosition(level.getBoard(), cherry);
+        if (tickCounter >= GameClock.ticks(TELEPORT_MILLIS)) {
+            teleportToRandomPosition(level, cherry);
             tickCounter = 0;
         }
     }
 
     /**
-     * Teletransporta la fruta a una posición aleatoria válida en el tablero
+     * Teletransporta la fruta a una casilla libre al azar: transitable y sin jugadores,
+     * enemigos ni otras frutas. El tablero sortea la casilla sin recorrerse entero.
      */
-    private void teleportToRandomPosition(Board board, Fruit fruit) {
-        List<Position> freePositions = findAllFreePositions(board);
+    private void teleportToRandomPosition(Level level, Fruit fruit) {
+        Board board = level.getBoard();
+        int cell = board.randomWalkableCell(random, c -> isOccupied(level, fruit, board.rowOf(c), board.colOf(c)));
 
         // Si no hay posiciones libres, nos quedamos donde estamos
-        if (freePositions.isEmpty()) {
+        if (cell < 0) {
             return;
         }
 
-        // Elegir una posición aleatoria de las disponibles
-        Position newPosition = freePositions.get(random.nextInt(freePositions.size()));
-        fruit.setPosition(newPosition);
+        fruit.setPosition(new Position(board.rowOf(cell), board.colOf(cell)));
     }
 
-    /**
-     * Encuentra todas las posiciones libres (caminables) en el tablero
-     */
-    private List<Position> findAllFreePositions(Board board) {
-        List<Position> freePositions = new ArrayList<>();
+    private boolean isOccupied(Level level, Fruit self, int row, int col) {
+        for (Player p : level.getPlayers()) {
+            if (p.getPosition().getRow() == row && p.getPosition().getCol() == col) return true;
+        }
 
-        // Recorre el tablero excluyendo los bordes (que son paredes metálicas)
-        for (int row = 1; row < board.getRows() - 1; row++) {
-            for (int col = 1; col < board.getCols() - 1; col++) {
-                Position pos = new Position(row, col);
+        EntityStore<Enemy> enemies = level.getEnemyStore();
+        for (int i = 0; i < enemies.size(); i++) {
+            if (enemies.row(i) == row && enemies.col(i) == col) return true;
+        }
 
-                // Solo agregamos posiciones que sean caminables
-                if (board.isWalkable(pos)) {
-                    freePositions.add(pos);
-                }
-            }
+        EntityStore<Fruit> fruits = level.getFruitManager().getStore();
+        for (int i = 0; i < fruits.size(); i++) {
+            if (fruits.get(i) == self || !fruits.hasFlag(i, EntityStore.ACTIVE) || fruits.hasFlag(i, EntityStore.COLLECTED)) continue;
+            if (fruits.row(i) == row && fruits.col(i) == col) return true;
         }
-        return freePositions;
+        return false;
     }
 
     /**
      * Ticks restantes hasta el próximo teletransporte
      */
     public int getTicksUntilTeleport() {
-        return TICKS_PER_TELEPORT - tickCounter;
+        return GameClock.ticks(TELEPORT_MILLIS) - tickCounter;
     }
 
     /**
      * Progreso hasta el próximo teletransporte de 0.0 a 1.0
      */
     public float getTeleportProgress() {
-        return (float) tickCounter / TICKS_PER_TELEPORT;
+        return (float) tickCounter / GameClock.ticks(TELEPORT_MILLIS);
     }
 
     /**
      * Segundos restantes hasta el próximo teletransporte
      */
     public int getSecondsUntilTeleport() {
-        return (TICKS_PER_TELEPORT - tickCounter) / 60;
+        return GameClock.seconds(getTicksUntilTeleport());
     }
 }
@@ -0,0 +1,65 @@
+package domain.behavior;
+
+import domain.entities.Enemy;
+import domain.model.Board;
+import domain.model.CellType;
+import domain.model.Position;
+import domain.utils.Direction;
+
+/**
+ * Movimiento que un enemigo decidió en la fase de decisión.
+ * No toca el tablero ni la entidad hasta que el nivel lo aplica en la fase de commit.
+ */
+public final class EnemyIntent {
+
+    private static final EnemyIntent STAY = new EnemyIntent(null, null, null);
+
+    private final Position target;     // null: se queda donde está
+    private final Direction direction; // null: no cambia de dirección
+    private final Position breakIce;   // null: no rompe hielo
+
+    private EnemyIntent(Position target, Direction direction, Position breakIce) {
+        this.target = target;
+        this.direction = direction;
+        this.breakIce = breakIce;
+    }
+
+    public static EnemyIntent stay() { return STAY; }
+
+    public static EnemyIntent turn(Direction direction) {
+        return new EnemyIntent(null, direction, null);
+    }
+
+    public static EnemyIntent moveTo(Position target, Direction direction) {
+        return new EnemyIntent(target, direction, null);
+    }
+
+    /**
+     * Misma intención, pero además convierte en piso el hielo de la celda dada
+     */
+    public EnemyIntent breakingIce(Position ice) {
+        return new EnemyIntent(target, direction, ice);
+    }
+
+    public Position getTarget() { return target; }
+    public Direction getDirection() { return direction; }
+    public Position getBreakIce() { return breakIce; }
+
+    /**
+     * Aplica la intención: primero rompe el hielo (si sigue ahí), luego gira y se mueve
+     */
+    public void apply(Board board, Enemy enemy) {
+        if (breakIce != null && board.isInside(breakIce)) {
+            CellType cell = board.getCellType(breakIce);
+            if (cell == CellType.ICE_BLOCK || cell == CellType.PLAYER_ICE) {
+                board.setCellType(breakIce, CellType.FLOOR);
+            }
+        }
+        if (direction != null) {
+            enemy.setDirection(direction);
+        }
+        if (target != null) {
+            enemy.setPosition(target);
+        }
+    }
+}
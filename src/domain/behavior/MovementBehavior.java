@@ -1,7 +1,28 @@
 package domain.behavior;
 import domain.game.Level;
+import domain.entities.Enemy;
 import domain.entities.Entity;
 
 public interface MovementBehavior {
-    void move(Level level, Entity object);
+
+    /**
+     * Fase de decisión: calcula el próximo movimiento sin modificar el tablero
+     * ni la entidad. Puede ejecutarse en paralelo con la de otros enemigos.
+     * Nunca devuelve null: si no hay movimiento, EnemyIntent.stay().
+     */
+    EnemyIntent decide(Level level, Enemy enemy);
+
+    /**
+     * Decide y aplica de inmediato (sin fase paralela)
+     */
+    default void move(Level level, Entity object) {
+        Enemy enemy = (Enemy) object;
+        decide(level, enemy).apply(level.getBoard(), enemy);
+    }
+
+    /**
+     * Cuántos ticks deben pasar hasta el próximo llamado a move.
+     * El nivel solo despierta a la entidad cuando se cumple ese plazo.
+     */
+    default int ticksUntilNextMove() { return 1; }
 }
@@ -1,6 +1,7 @@
 package domain.behavior;
 
 import domain.entities.*;
+import domain.game.GameClock;
 import domain.game.Level;
 import domain.model.*;
 import domain.utils.Direction;
@@ -23,10 +24,10 @@ public class NarvalMovement implements MovementBehavior {
 
     private State state = State.PATROL;
 
-    // Velocidades diferentes según el estado
+    // Velocidades diferentes según el estado (el narval actúa en los múltiplos de cada una)
     private int tickCounter = 0;
-    private static final int TICKS_PER_PATROL_MOVE = 20;  // Patrulla lenta
-    private static final int TICKS_PER_CHARGE_MOVE = 6;   // Embestida rápida
+    private static final long PATROL_MOVE_MILLIS = 333; // Patrulla lenta
+    private static final long CHARGE_MOVE_MILLIS = 100; // Embestida rápida
 
     // Rango de detección (cuántas casillas puede ver)
     private static final int DETECTION_RANGE = 15;
@@ -34,32 +35,29 @@ public class NarvalMovement implements MovementBehavior {
     private final Random random = new Random();
 
     @Override
-    public void move(Level level, Entity object) {
-        Enemy narwhal = (Enemy) object;
-
-        tickCounter++;
-
-        // Control de velocidad según el estado
-        int requiredTicks = (state == State.CHARGING) ? TICKS_PER_CHARGE_MOVE : TICKS_PER_PATROL_MOVE;
+    public int ticksUntilNextMove() {
+        int requiredTicks = GameClock.ticks((state == State.CHARGING) ? CHARGE_MOVE_MILLIS : PATROL_MOVE_MILLIS);
+        return requiredTicks - (tickCounter % requiredTicks);
+    }
 
-        if (tickCounter % requiredTicks != 0) {
-            return;
-        }
+    @Override
+    public EnemyIntent decide(Level level, Enemy narwhal) {
+        tickCounter = level.getTick();
 
         // Verificar si hay un jugador alineado
         Player targetPlayer = detectAlignedPlayer(level, narwhal);
+        Direction dir = narwhal.getDirection();
 
         if (targetPlayer != null && state == State.PATROL) {
             // Cambiar a modo embestida
-            startCharging(narwhal, targetPlayer);
+            dir = startCharging(narwhal, targetPlayer);
         }
 
         // Ejecutar comportamiento según el estado
         if (state == State.CHARGING) {
-            chargeMove(level, narwhal);
-        } else {
-            patrolMove(level, narwhal);
+            return chargeMove(level, narwhal, dir);
         }
+        return patrolMove(level, narwhal, dir);
     }
 
     /**
@@ -69,7 +67,7 @@ public class NarvalMovement implements MovementBehavior {
     private Player detectAlignedPlayer(Level level, Enemy narwhal) {
         Position narwhalPos = narwhal.getPosition();
         List<Player> players = level.getPlayers();
-        Board board = level.getBoard();
+        LineOfSightIndex sight = level.getLineOfSight();
 
         Player bestPlayer = null;
         int bestDistance = Integer.MAX_VALUE;
@@ -82,8 +80,9 @@ public class NarvalMovement implements MovementBehavior {
             // Verificar alineación horizontal (misma fila)
             if (narwhalPos.getRow() == playerPos.getRow()) {
                 int distance = Math.abs(narwhalPos.getCol() - playerPos.getCol());
+                // Solo las paredes bloquean la visión, el hielo se puede romper durante la embestida
                 if (distance <= DETECTION_RANGE && distance < bestDistance &&
-                        hasLineOfSight(board, narwhalPos, playerPos, true)) {
+                        sight.isRowClear(narwhalPos.getRow(), narwhalPos.getCol(), playerPos.getCol())) {
                     bestDistance = distance;
                     bestPlayer = player;
                 }
@@ -93,7 +92,7 @@ public class NarvalMovement implements MovementBehavior {
             if (narwhalPos.getCol() == playerPos.getCol()) {
                 int distance = Math.abs(narwhalPos.getRow() - playerPos.getRow());
                 if (distance <= DETECTION_RANGE && distance < bestDistance &&
-                        hasLineOfSight(board, narwhalPos, playerPos, false)) {
+                        sight.isColClear(narwhalPos.getCol(), narwhalPos.getRow(), playerPos.getRow())) {
                     bestDistance = distance;
                     bestPlayer = player;
                 }
@@ -104,51 +103,9 @@ public class NarvalMovement implements MovementBehavior {
     }
 
     /**
-     * Verifica si hay línea de visión entre dos posiciones.
-     * Solo considera paredes como obstáculos, el hielo se puede romper durante la embestida.
-     */
-    private boolean hasLineOfSight(Board board, Position from, Position to, boolean horizontal) {
-        if (horizontal) {
-            int row = from.getRow();
-            int colStart = Math.min(from.getCol(), to.getCol());
-            int colEnd = Math.max(from.getCol(), to.getCol());
-
-            for (int col = colStart + 1; col < colEnd; col++) {
-                Position pos = new Position(row, col);
-                CellType cell = board.getCellType(pos);
-
-                // Solo las paredes bloquean la visión
-                if (cell == CellType.METALLIC_WALL ||
-                        cell == CellType.RED_WALL ||
-                        cell == CellType.YELLOW_WALL) {
-                    return false;
-                }
-            }
-            // Vertical
-        } else {
-            int col = from.getCol();
-            int rowStart = Math.min(from.getRow(), to.getRow());
-            int rowEnd = Math.max(from.getRow(), to.getRow());
-
-            for (int row = rowStart + 1; row < rowEnd; row++) {
-                Position pos = new Position(row, col);
-                CellType cell = board.getCellType(pos);
-
-                // Solo las paredes bloquean la visión
-                if (cell == CellType.METALLIC_WALL ||
-                        cell == CellType.RED_WALL ||
-                        cell == CellType.YELLOW_WALL) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
-
-    /**
-     * Inicia el modo de embestida hacia el jugador
+     * Inicia el modo de embestida hacia el jugador y retorna la dirección de la embestida
      */
-    private void startCharging(Enemy narwhal, Player target) {
+    private Direction startCharging(Enemy narwhal, Player target) {
         state = State.CHARGING;
 
         Position narwhalPos = narwhal.getPosition();
@@ -157,24 +114,22 @@ public class NarvalMovement implements MovementBehavior {
         // Determinar dirección de la embestida
         if (narwhalPos.getRow() == playerPos.getRow()) {
             // Alineación horizontal
-            narwhal.setDirection(playerPos.getCol() > narwhalPos.getCol() ? Direction.RIGHT : Direction.LEFT);
-        } else {
-            // Alineación vertical
-            narwhal.setDirection(playerPos.getRow() > narwhalPos.getRow() ? Direction.DOWN : Direction.UP);
+            return playerPos.getCol() > narwhalPos.getCol() ? Direction.RIGHT : Direction.LEFT;
         }
+        // Alineación vertical
+        return playerPos.getRow() > narwhalPos.getRow() ? Direction.DOWN : Direction.UP;
     }
 
     /**
      * Movimiento durante la embestida: avanza rápido y destruye hielo
      */
-    private void chargeMove(Level level, Enemy narwhal) {
+    private EnemyIntent chargeMove(Level level, Enemy narwhal, Direction dir) {
         Board board = level.getBoard();
         Position current = narwhal.getPosition();
-        Direction dir = narwhal.getDirection();
 
         if (dir == null || dir == Direction.NONE) {
             state = State.PATROL;
-            return;
+            return EnemyIntent.turn(dir);
         }
 
         Position next = current.translated(dir.getDRow(), dir.getDCol());
@@ -182,39 +137,36 @@ public class NarvalMovement implements MovementBehavior {
         if (!board.isInside(next)) {
             // Chocó con el borde, volver a patrulla
             state = State.PATROL;
-            return;
+            return EnemyIntent.turn(dir);
         }
 
         CellType nextCell = board.getCellType(next);
 
         // Destruir hielo en el camino
         if (nextCell == CellType.ICE_BLOCK || nextCell == CellType.PLAYER_ICE) {
-            board.setCellType(next, CellType.FLOOR);
-            narwhal.setPosition(next);
-            return;
+            return EnemyIntent.moveTo(next, dir).breakingIce(next);
         }
 
         // Si es caminable, avanzar
         if (board.isWalkable(next)) {
-            narwhal.setPosition(next);
-        } else {
-            // Chocó con pared, volver a patrulla
-            state = State.PATROL;
+            return EnemyIntent.moveTo(next, dir);
         }
+
+        // Chocó con pared, volver a patrulla
+        state = State.PATROL;
+        return EnemyIntent.turn(dir);
     }
 
     /**
      * Movimiento de patrulla: avanza en línea recta y rebota en paredes
      */
-    private void patrolMove(Level level, Enemy narwhal) {
+    private EnemyIntent patrolMove(Level level, Enemy narwhal, Direction dir) {
         Board board = level.getBoard();
         Position current = narwhal.getPosition();
-        Direction dir = narwhal.getDirection();
 
         if (dir == null || dir == Direction.NONE) {
             Direction newDir = pickRandomWalkableDirection(board, current);
-            if (newDir == Direction.NONE) return;
-            narwhal.setDirection(newDir);
+            if (newDir == Direction.NONE) return EnemyIntent.stay();
             dir = newDir;
         }
 
@@ -222,21 +174,19 @@ public class NarvalMovement implements MovementBehavior {
 
         // Si puede avanzar, lo hace
         if (board.isInside(next) && board.isWalkable(next)) {
-            narwhal.setPosition(next);
-        } else {
-            // Rebotar: girar 180 grados
-            Direction opposite = dir.opposite();
-            Position oppositeNext = current.translated(opposite.getDRow(), opposite.getDCol());
-
-            if (board.isInside(oppositeNext) && board.isWalkable(oppositeNext)) {
-                narwhal.setDirection(opposite);
-            } else {
-                Direction newDir = pickRandomWalkableDirection(board, current);
-                if (newDir != Direction.NONE) {
-                    narwhal.setDirection(newDir);
-                }
-            }
+            return EnemyIntent.moveTo(next, dir);
+        }
+
+        // Rebotar: girar 180 grados
+        Direction opposite = dir.opposite();
+        Position oppositeNext = current.translated(opposite.getDRow(), opposite.getDCol());
+
+        if (board.isInside(oppositeNext) && board.isWalkable(oppositeNext)) {
+            return EnemyIntent.turn(opposite);
         }
+
+        Direction newDir = pickRandomWalkableDirection(board, current);
+        return EnemyIntent.turn(newDir != Direction.NONE ? newDir : dir);
     }
 
     private Direction pickRandomWalkableDirection(Board board, Position current) {
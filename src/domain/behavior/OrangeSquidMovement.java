@@ -1,8 +1,8 @@
 package domain.behavior;
 
 import domain.entities.Enemy;
-import domain.entities.Entity;
 import domain.entities.Player;
+import domain.game.GameClock;
 import domain.game.Level;
 import domain.model.Board;
 import domain.model.CellType;
@@ -18,8 +18,7 @@ import domain.utils.Direction;
  */
 public class OrangeSquidMovement implements MovementBehavior {
 
-    private int tickCounter = 0;
-    private static final int TICKS_PER_MOVE = 22;
+    private static final long MOVE_MILLIS = 367;
 
     // Control de destrucción de hielo
     private boolean isBreakingIce = false;
@@ -27,26 +26,22 @@ public class OrangeSquidMovement implements MovementBehavior {
     private static final int TICKS_TO_BREAK_ICE = 12;
     private Position iceBeingBroken = null;
 
-    @Override
-    public void move(Level level, Entity object) {
-        Enemy enemy = (Enemy) object;
+    private static final Direction[] DIRECTIONS = {Direction.UP, Direction.DOWN, Direction.LEFT, Direction.RIGHT};
 
-        // Control de velocidad
-        tickCounter++;
-        if (tickCounter % TICKS_PER_MOVE != 0) {
-            return;
-        }
+    @Override
+    public int ticksUntilNextMove() { return GameClock.ticks(MOVE_MILLIS); }
 
+    @Override
+    public EnemyIntent decide(Level level, Enemy enemy) {
         // Si estamos rompiendo hielo, continuamos con ese proceso
         if (isBreakingIce) {
-            breakIce(level, enemy);
-            return;
+            return breakIce(level);
         }
 
         // Buscamos al jugador más cercano
         Player nearestPlayer = findNearestPlayer(level, enemy);
         if (nearestPlayer == null) {
-            return; // No hay jugadores, nos quedamos quietos
+            return EnemyIntent.stay(); // No hay jugadores, nos quedamos quietos
         }
 
         Position current = enemy.getPosition();
@@ -57,7 +52,7 @@ public class OrangeSquidMovement implements MovementBehavior {
         Direction bestDirection = calculateDirectionToPlayer(current, playerPos);
 
         if (bestDirection == Direction.NONE) {
-            return; // Ya estamos en la misma posición (no debería pasar)
+            return EnemyIntent.stay(); // Ya estamos en la misma posición (no debería pasar)
         }
 
         // Calculamos la siguiente posición
@@ -66,21 +61,21 @@ public class OrangeSquidMovement implements MovementBehavior {
         // Verificamos si la siguiente posición es un bloque de hielo
         if (board.isInside(next) && isIceBlock(board, next)) {
             // Si hay una alternativa caminable que nos acerque, la preferimos
-            if (!tryMoveWithoutBreakingIce(level, enemy, nearestPlayer)) {
-                // Encontramos hielo, empezamos a romperlo
-                startBreakingIce(next, bestDirection, enemy);
+            EnemyIntent alternative = tryMoveWithoutBreakingIce(level, enemy, nearestPlayer);
+            if (alternative != null) {
+                return alternative;
             }
-            return;
+            // Encontramos hielo, empezamos a romperlo
+            return startBreakingIce(next, bestDirection);
         }
 
         // Si la celda es caminable, nos movemos
         if (board.isWalkable(next) || isPlayerCell(level, next)) {
-            enemy.setPosition(next);
-            enemy.setDirection(bestDirection);
-        } else {
-            // Si está bloqueado por algo que no es hielo, intentamos una ruta alternativa
-            tryAlternativeRoute(level, enemy, nearestPlayer);
+            return EnemyIntent.moveTo(next, bestDirection);
         }
+
+        // Si está bloqueado por algo que no es hielo, intentamos una ruta alternativa
+        return tryAlternativeRoute(level, enemy, nearestPlayer);
     }
 
     /**
@@ -155,48 +150,45 @@ public class OrangeSquidMovement implements MovementBehavior {
     /**
      * Inicia el proceso de romper un bloque de hielo
      */
-    private void startBreakingIce(Position icePosition, Direction direction, Enemy enemy) {
+    private EnemyIntent startBreakingIce(Position icePosition, Direction direction) {
         isBreakingIce = true;
         breakingTickCounter = 0;
         iceBeingBroken = icePosition;
-        enemy.setDirection(direction);
+        return EnemyIntent.turn(direction);
     }
 
     /**
      * Continúa el proceso de romper el hielo
      */
-    private void breakIce(Level level, Enemy enemy) {
+    private EnemyIntent breakIce(Level level) {
         breakingTickCounter++;
 
-        if (breakingTickCounter >= TICKS_TO_BREAK_ICE) {
-            // Terminamos de romper el hielo
-            Board board = level.getBoard();
-            if (board.isInside(iceBeingBroken) && isIceBlock(board, iceBeingBroken)) {
-                board.setCellType(iceBeingBroken, CellType.FLOOR);
-            }
+        if (breakingTickCounter < TICKS_TO_BREAK_ICE) {
+            return EnemyIntent.stay();
+        }
 
-            // Reiniciamos el estado
-            isBreakingIce = false;
-            breakingTickCounter = 0;
-            iceBeingBroken = null;
+        // Terminamos de romper el hielo (se aplica en la fase de commit)
+        Board board = level.getBoard();
+        EnemyIntent intent = EnemyIntent.stay();
+        if (board.isInside(iceBeingBroken) && isIceBlock(board, iceBeingBroken)) {
+            intent = intent.breakingIce(iceBeingBroken);
         }
+
+        // Reiniciamos el estado
+        isBreakingIce = false;
+        breakingTickCounter = 0;
+        iceBeingBroken = null;
+        return intent;
     }
 
     /**
      * Intenta una ruta alternativa cuando el camino directo está bloqueado
      */
-    private void tryAlternativeRoute(Level level, Enemy enemy, Player targetPlayer) {
+    private EnemyIntent tryAlternativeRoute(Level level, Enemy enemy, Player targetPlayer) {
         Position current = enemy.getPosition();
         Position playerPos = targetPlayer.getPosition();
         Board board = level.getBoard();
 
-        Direction[] directions = {
-                Direction.UP,
-                Direction.DOWN,
-                Direction.LEFT,
-                Direction.RIGHT
-        };
-
         int currentDist = manhattanDistance(current, playerPos);
 
         Direction bestWalkDir = Direction.NONE;
@@ -206,7 +198,7 @@ public class OrangeSquidMovement implements MovementBehavior {
         int bestIceDistance = Integer.MAX_VALUE;
         Position bestIcePos = null;
 
-        for (Direction dir : directions) {
+        for (Direction dir : DIRECTIONS) {
             Position next = current.translated(dir.getDRow(), dir.getDCol());
 
             if (!board.isInside(next)) continue;
@@ -229,34 +221,29 @@ public class OrangeSquidMovement implements MovementBehavior {
 
         if (bestWalkDir != Direction.NONE) {
             Position next = current.translated(bestWalkDir.getDRow(), bestWalkDir.getDCol());
-            enemy.setPosition(next);
-            enemy.setDirection(bestWalkDir);
-            return;
+            return EnemyIntent.moveTo(next, bestWalkDir);
         }
 
         if (bestIcePos != null && bestIceDistance <= currentDist) {
-            startBreakingIce(bestIcePos, bestIceDir, enemy);
+            return startBreakingIce(bestIcePos, bestIceDir);
         }
+        return EnemyIntent.stay();
     }
 
-    private boolean tryMoveWithoutBreakingIce(Level level, Enemy enemy, Player targetPlayer) {
+    /**
+     * Movimiento caminable que no nos aleja del jugador, o null si no hay ninguno
+     */
+    private EnemyIntent tryMoveWithoutBreakingIce(Level level, Enemy enemy, Player targetPlayer) {
         Position current = enemy.getPosition();
         Position playerPos = targetPlayer.getPosition();
         Board board = level.getBoard();
 
-        Direction[] directions = {
-                Direction.UP,
-                Direction.DOWN,
-                Direction.LEFT,
-                Direction.RIGHT
-        };
-
         int currentDist = manhattanDistance(current, playerPos);
 
         Direction bestDir = Direction.NONE;
         int bestDistance = Integer.MAX_VALUE;
 
-        for (Direction dir : directions) {
+        for (Direction dir : DIRECTIONS) {
             Position next = current.translated(dir.getDRow(), dir.getDCol());
 
             if (!board.isInside(next)) continue;
@@ -272,11 +259,9 @@ public class OrangeSquidMovement implements MovementBehavior {
 
         if (bestDir != Direction.NONE && bestDistance <= currentDist) {
             Position next = current.translated(bestDir.getDRow(), bestDir.getDCol());
-            enemy.setPosition(next);
-            enemy.setDirection(bestDir);
-            return true;
+            return EnemyIntent.moveTo(next, bestDir);
         }
 
-        return false;
+        return null;
     }
 }
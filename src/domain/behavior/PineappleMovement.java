@@ -1,6 +1,7 @@
 package domain.behavior;
 
 import domain.entities.MovingFruit;
+import domain.game.GameClock;
 import domain.game.Level;
 import domain.model.*;
 import domain.utils.Direction;
@@ -21,7 +22,7 @@ public class PineappleMovement implements FruitMovementBehavior {
     private Direction dir = Direction.UP;
 
     private int tickCounter = 0;
-    private static final int TICKS_PER_MOVE = 16;
+    private static final long MOVE_MILLIS = 267;
 
     private boolean jumping = false;
     private Position jumpOver;
@@ -39,7 +40,7 @@ public class PineappleMovement implements FruitMovementBehavior {
         Board board = level.getBoard();
 
         tickCounter++;
-        if (tickCounter % TICKS_PER_MOVE != 0) {
+        if (tickCounter % GameClock.ticks(MOVE_MILLIS) != 0) {
             return;
         }
 
@@ -1,7 +1,7 @@
 package domain.behavior;
+import domain.game.GameClock;
 import domain.game.Level;
 import domain.entities.Enemy;
-import domain.entities.Entity;
 import domain.model.*;
 import domain.utils.Direction;
 
@@ -13,18 +13,13 @@ import domain.utils.Direction;
  */
 public class TrollTurnRightMovement implements MovementBehavior{
     //Para que no ande tan rápido
-    private int tickCounter = 0;
-    private static final int TICKS_PER_MOVE = 23;
+    private static final long MOVE_MILLIS = 383;
 
     @Override
-    public void move(Level level, Entity object) {
-        Enemy enemy = (Enemy) object;
-        //Controlamos la velocidad
-        tickCounter++;
-        if (tickCounter % TICKS_PER_MOVE != 0) {
-            return;
-        }
+    public int ticksUntilNextMove() { return GameClock.ticks(MOVE_MILLIS); }
 
+    @Override
+    public EnemyIntent decide(Level level, Enemy enemy) {
         Board board = level.getBoard();
         Direction dirPrueba = enemy.getDirection();
 
@@ -33,12 +28,11 @@ public class TrollTurnRightMovement implements MovementBehavior{
             Position current = enemy.getPosition();
             Position next = current.translated(dirPrueba.getDRow(),dirPrueba.getDCol());
             if (board.isWalkable((next))){
-                enemy.setPosition(next);
-                enemy.setDirection(dirPrueba);
-                return;
+                return EnemyIntent.moveTo(next, dirPrueba);
             } else {
                 dirPrueba = dirPrueba.turnRight();
             }
         }
+        return EnemyIntent.stay();
     }
 }
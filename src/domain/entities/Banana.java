@@ -4,9 +4,8 @@ import domain.game.Level;
 
 public class Banana extends Fruit{
     private static final int BANANA_SCORE = 100;
-    private static final Sprite SPRITE = new Sprite("/banana.jpg");
     public Banana(Position position){
-        super(position, BANANA_SCORE, SPRITE);
+        super(position, BANANA_SCORE);
     }
 
     @Override
@@ -1,5 +1,6 @@
 package domain.entities;
 
+import domain.game.GameClock;
 import domain.game.Level;
 import domain.model.Position;
 import java.util.List;
@@ -10,12 +11,12 @@ import java.util.List;
 public class Cactus extends Fruit {
 
     public static final int CACTUS_SCORE = 250;
-    private static final int TICKS_PER_CYCLE = 600;
+    private static final long CYCLE_MILLIS = 10_000;
     private int tickCounter = 0;
     private boolean hasSpikesDangerous = false;
 
     public Cactus(Position position) {
-        super(position, CACTUS_SCORE, null);
+        super(position, CACTUS_SCORE);
     }
 
     @Override
@@ -32,8 +33,9 @@ public class Cactus extends Fruit {
         }
 
         tickCounter++;
-        if (tickCounter >= TICKS_PER_CYCLE) {
+        if (tickCounter >= GameClock.ticks(CYCLE_MILLIS)) {
             hasSpikesDangerous = !hasSpikesDangerous;
+            setFlag(EntityStore.DANGEROUS, hasSpikesDangerous);
             tickCounter = 0;
         }
 
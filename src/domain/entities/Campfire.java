@@ -1,5 +1,6 @@
 package domain.entities;
 
+import domain.game.GameClock;
 import domain.game.Level;
 import domain.model.*;
 
@@ -11,10 +12,7 @@ import domain.model.*;
  */
 public class Campfire extends Entity {
 
-    public static final Sprite SPRITE_ON = new Sprite("/campfire-on.png");
-    public static final Sprite SPRITE_OFF = new Sprite("/campfire-off.png");
-
-    private static final int TICKS_TO_RELIGHT = 600;
+    private static final long RELIGHT_MILLIS = 10_000;
 
     private boolean isLit = true;
     private int relightCounter = 0;
@@ -29,7 +27,7 @@ public class Campfire extends Entity {
         if (!isLit) {
             relightCounter++;
 
-            if (relightCounter >= TICKS_TO_RELIGHT) {
+            if (relightCounter >= GameClock.ticks(RELIGHT_MILLIS)) {
                 relight(board);
             }
         }
@@ -58,19 +56,14 @@ public class Campfire extends Entity {
     }
 
     public int getTicksUntilRelight() {
-        return isLit ? 0 : TICKS_TO_RELIGHT - relightCounter;
+        return isLit ? 0 : GameClock.ticks(RELIGHT_MILLIS) - relightCounter;
     }
 
     public int getSecondsUntilRelight() {
-        return getTicksUntilRelight() / 60;
+        return GameClock.seconds(getTicksUntilRelight());
     }
 
     public float getRelightProgress() {
-        return isLit ? 0f : (float) relightCounter / TICKS_TO_RELIGHT;
-    }
-
-    // Obtener el sprite correcto según el estado
-    public Sprite getCurrentSprite() {
-        return isLit ? SPRITE_ON : SPRITE_OFF;
+        return isLit ? 0f : (float) relightCounter / GameClock.ticks(RELIGHT_MILLIS);
     }
 }
@@ -10,12 +10,11 @@ import domain.model.Position;
 public class Cherry extends Fruit {
 
     public static final int CHERRY_SCORE = 150;
-    public static final Sprite SPRITE = new Sprite("/cherry.png");
 
     private final CherryMovement behavior;
 
     public Cherry(Position position) {
-        super(position, CHERRY_SCORE, SPRITE);
+        super(position, CHERRY_SCORE);
         this.behavior = new CherryMovement();
     }
 
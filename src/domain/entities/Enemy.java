@@ -3,7 +3,6 @@ package domain.entities;
 import domain.behavior.MovementBehavior;
 import domain.model.Position;
 import domain.utils.Direction;
-import java.awt.Graphics2D;
 
 /**
  * Los enemigos son tipo de entidades que tienen un comportamiento particular, hacen perder a los helados.
@@ -18,15 +17,18 @@ public class Enemy extends Entity {
         this.movementBehavior = movementBehavior;
     }
 
-    public void render(Graphics2D g, int tileSize) {
-        if (animatedSprite != null) {
-            int x = position.getCol() * tileSize;
-            int y = position.getRow() * tileSize;
-            animatedSprite.draw(g, x, y, tileSize, tileSize, direction);
-        }
+
+    @Override
+    void bindStore(EntityStore<?> store, int slot) {
+        super.bindStore(store, slot);
+        store.setDirection(slot, direction);
+    }
+
+    public Direction getDirection() { return store != null ? store.direction(slot) : this.direction; }
+    public void setDirection(Direction direction) {
+        this.direction = direction;
+        if (store != null) store.setDirection(slot, direction);
     }
-    public Direction getDirection() { return this.direction; }
-    public void setDirection(Direction direction) { this.direction = direction; }
     public MovementBehavior getMovementBehavior() { return this.movementBehavior; }
 
 }
\ No newline at end of file
@@ -6,12 +6,23 @@ import domain.model.Position;
  */
 public abstract class Entity {
     protected Position position;
-    protected AnimatedSprite animatedSprite;
+
+    // Ranura en el EntityStore del nivel (null si la entidad no está enlazada).
+    // El store es un espejo: cada cambio se escribe acá y en la ranura
+    protected EntityStore<?> store;
+    protected int slot = -1;
 
     protected Entity(Position position) {
         this.position = position;
     }
-    public void setAnimatedSprite(AnimatedSprite sprite) {this.animatedSprite = sprite;}
     public Position getPosition() {return this.position;}
-    public void setPosition(Position position) { this.position = position;}
+    public void setPosition(Position position) {
+        this.position = position;
+        if (store != null) store.setCell(slot, position.getRow(), position.getCol());
+    }
+
+    void bindStore(EntityStore<?> store, int slot) {
+        this.store = store;
+        this.slot = slot;
+    }
 }
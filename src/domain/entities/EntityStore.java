@@ -0,0 +1,214 @@
+package domain.entities;
+
+import domain.model.Zobrist;
+import domain.utils.Direction;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Almacén orientado a datos para frutas y enemigos.
+ * Guarda en arreglos paralelos la fila, columna, tipo, banderas y dirección de cada entidad;
+ * las entidades enlazadas escriben aquí su estado y lo leen desde aquí,
+ * así los recorridos de colisiones e IA son ciclos sobre enteros contiguos.
+ */
+public class EntityStore<E extends Entity> {
+
+    public static final int COLLECTED = 1;
+    public static final int FROZEN = 1 << 1;
+    public static final int DANGEROUS = 1 << 2;
+    public static final int ACTIVE = 1 << 3;
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final int NO_DIRECTION = -1;
+
+    private int[] rows = new int[16];
+    private int[] cols = new int[16];
+    private int[] types = new int[16];
+    private int[] flags = new int[16];
+    private int[] dirs = new int[16];
+    private Object[] owners = new Object[16];
+    private int size = 0;
+
+    // Zobrist de casilla, dirección y banderas de cada ranura; hashSalt separa las claves de
+    // almacenes distintos del mismo nivel para que no se cancelen entre sí
+    private final int hashSalt;
+    private long hash = 0;
+
+    // Cada clase concreta de entidad recibe un id de tipo en orden de aparición
+    private final List<Class<?>> typeClasses = new ArrayList<>();
+    private static final int MAX_TYPES = Long.SIZE;
+
+    // ACTIVE no se guarda por entidad: depende de si su tipo está en la máscara activa
+    private long activeTypes = -1L;
+
+    // Cuántas entidades sin COLLECTED hay por tipo y cuántas de ellas están activas
+    private final int[] uncollectedByType = new int[MAX_TYPES];
+    private int activeUncollected = 0;
+
+    public EntityStore() {
+        this(0);
+    }
+
+    public EntityStore(int hashSalt) {
+        this.hashSalt = hashSalt;
+    }
+
+    /**
+     * Agrega la entidad al almacén, copia su estado actual y la enlaza a su ranura
+     */
+    public int add(E entity) {
+        if (size == rows.length) grow();
+
+        int slot = size++;
+        rows[slot] = entity.getPosition().getRow();
+        cols[slot] = entity.getPosition().getCol();
+        types[slot] = typeOf(entity.getClass());
+        flags[slot] = 0;
+        uncollectedByType[types[slot]]++;
+        if (isActiveType(types[slot])) activeUncollected++;
+        dirs[slot] = NO_DIRECTION;
+        owners[slot] = entity;
+        hash ^= cellKey(slot) ^ directionKey(slot) ^ flagsKey(slot);
+
+        entity.bindStore(this, slot);
+        return slot;
+    }
+
+    private void grow() {
+        int n = rows.length * 2;
+        rows = Arrays.copyOf(rows, n);
+        cols = Arrays.copyOf(cols, n);
+        types = Arrays.copyOf(types, n);
+        flags = Arrays.copyOf(flags, n);
+        dirs = Arrays.copyOf(dirs, n);
+        owners = Arrays.copyOf(owners, n);
+    }
+
+    public int typeOf(Class<?> clazz) {
+        int id = typeClasses.indexOf(clazz);
+        if (id >= 0) return id;
+        if (typeClasses.size() == MAX_TYPES) {
+            throw new IllegalStateException("Demasiados tipos de entidad en el almacén: " + clazz.getName());
+        }
+        typeClasses.add(clazz);
+        return typeClasses.size() - 1;
+    }
+
+    public int size() { return size; }
+
+    @SuppressWarnings("unchecked")
+    public E get(int slot) { return (E) owners[slot]; }
+
+    public int row(int slot) { return rows[slot]; }
+    public int col(int slot) { return cols[slot]; }
+    public int type(int slot) { return types[slot]; }
+    public int flags(int slot) {
+        return isActiveType(types[slot]) ? flags[slot] | ACTIVE : flags[slot];
+    }
+
+    public boolean hasFlag(int slot, int flag) { return (flags(slot) & flag) != 0; }
+
+    public void setFlag(int slot, int flag, boolean on) {
+        int old = flags[slot];
+        int now = on ? old | flag : old & ~flag;
+        hash ^= flagsKey(slot);
+        flags[slot] = now & ~ACTIVE;
+        hash ^= flagsKey(slot);
+
+        // Mantener los contadores de pendientes cuando cambia COLLECTED
+        if (((old ^ now) & COLLECTED) != 0) {
+            int delta = on ? -1 : 1;
+            uncollectedByType[types[slot]] += delta;
+            if (isActiveType(types[slot])) activeUncollected += delta;
+        }
+    }
+
+    private boolean isActiveType(int type) {
+        return (activeTypes & (1L << type)) != 0;
+    }
+
+    /**
+     * Máscara de bits con los ids de tipo que deben figurar como ACTIVE
+     */
+    public long maskFor(Class<?> clazz) {
+        long mask = 0L;
+        for (int i = 0; i < typeClasses.size(); i++) {
+            if (clazz.isAssignableFrom(typeClasses.get(i))) mask |= 1L << i;
+        }
+        return mask;
+    }
+
+    /**
+     * Cambia los tipos activos; el costo depende de la cantidad de tipos, no de entidades
+     */
+    public void setActiveTypes(long mask) {
+        activeTypes = mask;
+        activeUncollected = 0;
+        for (int i = 0; i < typeClasses.size(); i++) {
+            if (isActiveType(i)) activeUncollected += uncollectedByType[i];
+        }
+    }
+
+    /**
+     * Entidades activas que todavía no tienen la bandera COLLECTED
+     */
+    public int getActiveUncollected() { return activeUncollected; }
+
+    void setCell(int slot, int row, int col) {
+        hash ^= cellKey(slot);
+        rows[slot] = row;
+        cols[slot] = col;
+        hash ^= cellKey(slot);
+    }
+
+    Direction direction(int slot) {
+        int d = dirs[slot];
+        return d == NO_DIRECTION ? null : DIRECTIONS[d];
+    }
+
+    void setDirection(int slot, Direction direction) {
+        hash ^= directionKey(slot);
+        dirs[slot] = direction == null ? NO_DIRECTION : direction.ordinal();
+        hash ^= directionKey(slot);
+    }
+
+    /**
+     * Hash de Zobrist de casilla, dirección y banderas de todas las ranuras (ACTIVE no cuenta: sale de la fase)
+     */
+    public long getHash() { return hash; }
+
+    private long cellKey(int slot) {
+        return Zobrist.key(Zobrist.ENTITY_CELL, (hashSalt << 20) | slot, Zobrist.cell(rows[slot], cols[slot]));
+    }
+
+    private long directionKey(int slot) {
+        return Zobrist.key(Zobrist.ENTITY_DIRECTION, (hashSalt << 20) | slot, dirs[slot] + 1);
+    }
+
+    private long flagsKey(int slot) {
+        return Zobrist.key(Zobrist.ENTITY_FLAGS, (hashSalt << 20) | slot, flags[slot]);
+    }
+
+    /**
+     * Ranura más cercana (Manhattan) que tiene todas las banderas requeridas
+     * y ninguna de las prohibidas. En empate gana la primera. -1 si no hay ninguna.
+     */
+    public int nearest(int row, int col, int requiredFlags, int forbiddenFlags) {
+        int best = -1;
+        int bestDist = Integer.MAX_VALUE;
+
+        for (int i = 0; i < size; i++) {
+            int f = flags(i);
+            if ((f & requiredFlags) != requiredFlags || (f & forbiddenFlags) != 0) continue;
+
+            int d = Math.abs(rows[i] - row) + Math.abs(cols[i] - col);
+            if (d < bestDist) {
+                bestDist = d;
+                best = i;
+            }
+        }
+        return best;
+    }
+}
@@ -1,42 +1,39 @@
 package domain.entities;
 import domain.model.Position;
 import domain.game.Level;
-import java.awt.Graphics2D;
 
 /**
  * Contiene flags y helpers para el funcionamiento de las frutas con sus características
  */
 public abstract class Fruit extends Entity{
-    protected final Sprite sprite;
     private final int scoreValue;
     private boolean collected = false;
     private boolean frozen = false;
 
-    public Fruit(Position position, int scoreValue, Sprite sprite) {
+    public Fruit(Position position, int scoreValue) {
         super(position);
-        this.sprite = sprite;
         this.scoreValue = scoreValue;
     }
 
-    public boolean isCollected() {return this.collected;}
-    public void collect() {this.collected = true;}
+    @Override
+    void bindStore(EntityStore<?> store, int slot) {
+        super.bindStore(store, slot);
+        store.setFlag(slot, EntityStore.COLLECTED, collected);
+        store.setFlag(slot, EntityStore.FROZEN, frozen);
+    }
+
+    // Si está enlazada, el estado se lee y escribe en el EntityStore
+    public boolean isCollected() {return store != null ? store.hasFlag(slot, EntityStore.COLLECTED) : this.collected;}
+    public void collect() {setFlag(EntityStore.COLLECTED, true);}
     public void update(Level level) { }
     public abstract int getPoints();
-    public boolean isFrozen() {return this.frozen;}
-    public void freeze() {this.frozen = true;}
-    public void unfreeze() {this.frozen = false;}
-
-    // Tamaño de las frutas
-    public void render(Graphics2D g, int tileSize) {
-        int baseX = position.getCol() * tileSize;
-        int baseY = position.getRow() * tileSize;
-
-        int size = (int) (tileSize * 0.8);
-        int offset = (tileSize - size) / 2;
-
-        int x = baseX + offset;
-        int y = baseY + offset;
+    public boolean isFrozen() {return store != null ? store.hasFlag(slot, EntityStore.FROZEN) : this.frozen;}
+    public void freeze() {setFlag(EntityStore.FROZEN, true);}
+    public void unfreeze() {setFlag(EntityStore.FROZEN, false);}
 
-        sprite.draw(g, x, y, size, size);
+    protected void setFlag(int flag, boolean on) {
+        if (flag == EntityStore.COLLECTED) this.collected = on;
+        if (flag == EntityStore.FROZEN) this.frozen = on;
+        if (store != null) store.setFlag(slot, flag, on);
     }
 }
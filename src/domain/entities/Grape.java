@@ -7,10 +7,9 @@ import domain.game.Level;
  */
 public class Grape extends Fruit{
     private static final int GRAPE_SCORE = 50;
-    private static final Sprite SPRITE = new Sprite("/grape.jpg");
 
     public Grape(Position position) {
-        super(position, GRAPE_SCORE, SPRITE);
+        super(position, GRAPE_SCORE);
     }
 
     @Override
@@ -11,8 +11,8 @@ public abstract class MovingFruit extends Fruit {
 
     protected FruitMovementBehavior movementBehavior;
 
-    public MovingFruit(Position position, int points, Sprite sprite,  FruitMovementBehavior movementBehavior) {
-        super(position, points, sprite);
+    public MovingFruit(Position position, int points, FruitMovementBehavior movementBehavior) {
+        super(position, points);
         this.movementBehavior = movementBehavior;
     }
 
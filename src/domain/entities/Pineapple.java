@@ -9,13 +9,9 @@ import domain.model.Position;
 public class Pineapple extends MovingFruit {
 
     public static final int PINEAPPLE_SCORE = 200;
-    public static final Sprite SPRITE = new Sprite("/pineapple.png");
 
     public Pineapple(Position position) {
-        super(position,
-                PINEAPPLE_SCORE,
-                SPRITE,
-                new PineappleMovement());
+        super(position, PINEAPPLE_SCORE, new PineappleMovement());
     }
 
     public int getPoints() { return PINEAPPLE_SCORE; }
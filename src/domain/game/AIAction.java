@@ -0,0 +1,38 @@
+package domain.game;
+
+import domain.utils.Direction;
+
+/**
+ * Acción de un jugador controlado por máquina: moverse o disparar hielo.
+ * Al disparar, el jugador primero mira hacia la dirección indicada.
+ */
+public final class AIAction {
+
+    public enum Kind {
+        MOVE,
+        FIRE
+    }
+
+    private static final AIAction IDLE = new AIAction(Kind.MOVE, Direction.NONE);
+
+    private final Kind kind;
+    private final Direction direction;
+
+    private AIAction(Kind kind, Direction direction) {
+        this.kind = kind;
+        this.direction = direction;
+    }
+
+    public static AIAction move(Direction direction) {
+        if (direction == null || direction == Direction.NONE) return IDLE;
+        return new AIAction(Kind.MOVE, direction);
+    }
+
+    public static AIAction fire(Direction direction) {
+        return new AIAction(Kind.FIRE, direction);
+    }
+
+    public Kind getKind() { return kind; }
+    public Direction getDirection() { return direction; }
+    public boolean isFire() { return kind == Kind.FIRE; }
+}
@@ -1,6 +1,6 @@
 package domain.game;
 
-import domain.entities.Enemy;
+import domain.entities.EntityStore;
 import domain.entities.Fruit;
 import domain.entities.Player;
 import domain.model.Board;
@@ -9,150 +9,211 @@ import domain.utils.Direction;
 
 import java.util.*;
 
+import static domain.game.CollisionDetector.sameCell;
+
 /**
  * Decide el próximo movimiento de un jugador controlado por máquina.
  * Mejoras:
  *  - Memoria corta por jugador para evitar bucles (ping-pong).
- *  - Detecta "stuck" y usa BFS solo como rescate (no siempre).
- *  - Fearful penaliza callejones para no encerrarse.
+ *  - Sigue el camino más corto hacia la fruta que le asigna el FruitTargetPlanner del nivel,
+ *    repartidas entre los jugadores máquina para no perseguir la misma.
+ *  - Detecta "stuck" y entonces sigue ese camino aunque roce un peligro.
+ *  - Fearful y Expert leen el DangerMap del nivel: huyen según los ticks que faltan
+ *    para que un peligro llegue y evitan las celdas a punto de ser alcanzadas.
+ *  - Puede disparar hielo (con enfriamiento) cuando el evaluador lo considera útil.
  */
 public class AIController {
 
     private final AIProfile profile;
     private final Random rng = new Random();
 
-    // Memoria por jugador para evitar loops (A-B-A-B...)
-    private final Map<Player, ArrayDeque<Position>> lastPositions = new HashMap<>();
+    private static final Direction[] DIRECTIONS = {Direction.UP, Direction.DOWN, Direction.LEFT, Direction.RIGHT};
+
+    // Memoria corta del jugador para evitar loops (A-B-A-B...): anillo con las últimas celdas
+    // distintas que pisó, como índice empaquetado del tablero
     private static final int MEMORY = 6;
+    private final int[] recentCells = new int[MEMORY];
+    private int recentHead = 0;
+    private int recentCount = 0;
+    private Player memoryOwner;
+
+    // Llamadas seguidas sin cambiar de celda; atascado si pasan STILL_MOVES_STUCK turnos de movimiento
+    private int stillCalls = 0;
+    private static final int STILL_MOVES_STUCK = 3;
+
+    // Mapa de calor opcional: veces que entró a cada celda, penaliza volver a zonas muy pisadas
+    private boolean visitHeatmap = false;
+    private int[] visits;
+    private static final int HEAT_PER_STEP = 2;
+    private static final long HEAT_MILLIS = 83;
+
+    // Margen de tiempo con el que cada perfil empieza a huir
+    private static final long FEARFUL_ALERT_MILLIS = 2000;
+    private static final long EXPERT_ALERT_MILLIS = 1000;
+    // Camino a la fruta: no pisar celdas que un peligro alcanza en menos de esto
+    private static final long UNSAFE_STEP_MILLIS = 383;
+    // Tope para que SAFE no desborde al sumar
+    private static final long DANGER_HORIZON_MILLIS = 10_000;
+    private static final long LOOP_PENALTY_MILLIS = 333;
+
+    // Disparos de hielo: se evalúan con una simulación del rayo y tienen enfriamiento
+    private final IceActionEvaluator iceEvaluator;
+    private static final long FIRE_COOLDOWN_MILLIS = 667;
+    private int fireCooldown = 0;
+
+    // Perfil SEARCH: se vuelve a planear al cambiar de celda o cada REPLAN_CALLS llamadas
+    private final MctsPlanner planner;
+    private static final int REPLAN_CALLS = 8;
+    private Direction plannedMove = null;
+    private int plannedRow;
+    private int plannedCol;
+    private int callsSincePlan = 0;
 
     public AIController(AIProfile profile) {
         this.profile = profile;
+        this.iceEvaluator = new IceActionEvaluator(profile);
+        this.planner = (profile == AIProfile.SEARCH) ? new MctsPlanner() : null;
     }
 
     public AIProfile getProfile() {
         return profile;
     }
 
+    /**
+     * Activa el mapa de calor de visitas: además de la memoria corta, evita celdas muy pisadas
+     */
+    public void setVisitHeatmap(boolean enabled) {
+        this.visitHeatmap = enabled;
+        if (!enabled) visits = null;
+    }
+
     public Direction decide(Level level, Player me) {
         if (me == null || me.isDead()) return Direction.NONE;
 
-        remember(me);
+        remember(level.getBoard(), me);
 
         return switch (profile) {
             case HUNGRY -> hungryMove(level, me);
             case FEARFUL -> fearfulMove(level, me);
             case EXPERT -> expertMove(level, me);
+            case SEARCH -> searchMove(level, me);
         };
     }
 
+    /**
+     * Decide la acción completa del tick: moverse (como decide) o disparar hielo
+     */
+    public AIAction decideAction(Level level, Player me) {
+        Direction move = decide(level, me);
+        if (me == null || me.isDead()) return AIAction.move(move);
+
+        if (fireCooldown > 0) {
+            fireCooldown--;
+            return AIAction.move(move);
+        }
+
+        Fruit target = targetFruit(level, me);
+        AIAction fire = iceEvaluator.bestFire(level, me, target != null ? target.getPosition() : null);
+        if (fire == null) return AIAction.move(move);
+
+        fireCooldown = GameClock.ticks(FIRE_COOLDOWN_MILLIS);
+        return fire;
+    }
+
     // =========================
     // Profiles
     // =========================
 
     private Direction hungryMove(Level level, Player me) {
-        Board board = level.getBoard();
-
-        Fruit target = nearestActiveFruit(level, me.getPosition());
-        if (target == null) {
-            return randomWalk(board, me.getPosition(), me);
-        }
-
-        // Si está atascado, BFS de rescate
-        if (isStuck(me)) {
-            Direction bfs = bfsFirstStep(board, me.getPosition(), target.getPosition());
-            if (bfs != Direction.NONE) return bfs;
-        }
-
-        return stepToward(board, me.getPosition(), target.getPosition(), me);
+        return fruitMove(level.getBoard(), null, level, me);
     }
 
     private Direction fearfulMove(Level level, Player me) {
         Board board = level.getBoard();
+        DangerMap danger = level.getDangerMap();
+        Position mePos = me.getPosition();
 
-        Enemy threat = nearestEnemy(level, me.getPosition());
-        if (threat == null) {
-            Fruit target = nearestActiveFruit(level, me.getPosition());
-            if (target != null) {
-                if (isStuck(me)) {
-                    Direction bfs = bfsFirstStep(board, me.getPosition(), target.getPosition());
-                    if (bfs != Direction.NONE) return bfs;
-                }
-                return stepToward(board, me.getPosition(), target.getPosition(), me);
-            }
-            return randomWalk(board, me.getPosition(), me);
+        // Huye en cuanto algún peligro puede alcanzarlo pronto
+        if (danger.ticksToDanger(mePos.getRow(), mePos.getCol()) <= GameClock.ticks(FEARFUL_ALERT_MILLIS)) {
+            Direction away = stepToSafety(board, danger, mePos);
+            if (away != Direction.NONE) return away;
+            return randomWalk(board, mePos);
         }
 
-        // Alejarse del enemigo, evitando loops y callejones
-        Direction away = stepAway(board, me.getPosition(), threat.getPosition(), me);
-        if (away != Direction.NONE) return away;
-
-        return randomWalk(board, me.getPosition(), me);
+        return fruitMove(board, danger, level, me);
     }
 
     private Direction expertMove(Level level, Player me) {
         Board board = level.getBoard();
+        DangerMap danger = level.getDangerMap();
         Position mePos = me.getPosition();
 
-        // 1) si hay enemigo cerca, primero aléjate
-        Enemy threat = nearestEnemy(level, mePos);
-        if (threat != null) {
-            int d = manhattan(mePos, threat.getPosition());
-            if (d <= 3) {
-                Direction away = stepAway(board, mePos, threat.getPosition(), me);
-                if (away != Direction.NONE) return away;
-            }
+        // 1) si un peligro está por llegar, primero aléjate
+        if (danger.ticksToDanger(mePos.getRow(), mePos.getCol()) <= GameClock.ticks(EXPERT_ALERT_MILLIS)) {
+            Direction away = stepToSafety(board, danger, mePos);
+            if (away != Direction.NONE) return away;
         }
 
-        // 2) si no hay amenaza inmediata, ve por fruta
-        Fruit target = nearestActiveFruit(level, mePos);
-        if (target != null) {
-            if (isStuck(me)) {
-                Direction bfs = bfsFirstStep(board, mePos, target.getPosition());
-                if (bfs != Direction.NONE) return bfs;
-            }
-            Direction toward = stepToward(board, mePos, target.getPosition(), me);
-            if (toward != Direction.NONE) return toward;
+        // 2) si no hay amenaza inmediata, ve por fruta; 3) si no hay nada, camina random
+        return fruitMove(board, danger, level, me);
+    }
+
+    /**
+     * Camino más corto hacia la fruta asignada por el FruitTargetPlanner del nivel.
+     * Con danger, el paso no puede caer en una celda que un peligro alcanza casi de inmediato
+     * (salvo como rescate si está atascado); si no hay paso seguro, greedy como antes.
+     */
+    private Direction fruitMove(Board board, DangerMap danger, Level level, Player me) {
+        Position mePos = me.getPosition();
+        Fruit target = targetFruit(level, me);
+        if (target == null) return randomWalk(board, mePos);
+
+        // Atascado: el camino más corto manda aunque pase cerca de un peligro
+        Direction path = level.getFruitTargets().firstStep(level, me);
+        if (path != Direction.NONE && (danger == null || isStuck()
+                || danger.ticksToDanger(mePos.getRow() + path.getDRow(), mePos.getCol() + path.getDCol()) > GameClock.ticks(UNSAFE_STEP_MILLIS))) {
+            return path;
         }
 
-        // 3) si no hay nada, camina random
-        return randomWalk(board, mePos, me);
+        Direction toward = stepToward(board, danger, mePos, target.getPosition());
+        if (toward != Direction.NONE) return toward;
+        return randomWalk(board, mePos);
+    }
+
+    private Direction searchMove(Level level, Player me) {
+        Position pos = me.getPosition();
+        boolean samePlace = pos.getRow() == plannedRow && pos.getCol() == plannedCol;
+
+        if (plannedMove != null && samePlace && callsSincePlan < REPLAN_CALLS) {
+            callsSincePlan++;
+            return plannedMove;
+        }
+
+        plannedMove = planner.plan(level, me);
+        plannedRow = pos.getRow();
+        plannedCol = pos.getCol();
+        callsSincePlan = 1;
+        return plannedMove;
     }
 
     // =========================
     // Target selection
     // =========================
 
-    private Fruit nearestActiveFruit(Level level, Position from) {
-        List<Fruit> fruits = level.getFruitManager().getActiveFruits();
-        Fruit best = null;
-        int bestDist = Integer.MAX_VALUE;
-
-        for (Fruit f : fruits) {
-            if (f.isCollected()) continue;
-            if (f.isFrozen()) continue;
-
-            int d = manhattan(from, f.getPosition());
-            if (d < bestDist) {
-                bestDist = d;
-                best = f;
-            }
-        }
-        return best;
+    /**
+     * Fruta asignada por el planificador del nivel; si no alcanza ninguna caminando,
+     * la más cercana en línea recta.
+     */
+    private Fruit targetFruit(Level level, Player me) {
+        Fruit assigned = level.getFruitTargets().targetFor(level, me);
+        return assigned != null ? assigned : nearestActiveFruit(level, me.getPosition());
     }
 
-    private Enemy nearestEnemy(Level level, Position from) {
-        List<Enemy> enemies = level.getEnemies();
-        Enemy best = null;
-        int bestDist = Integer.MAX_VALUE;
-
-        for (Enemy e : enemies) {
-            int d = manhattan(from, e.getPosition());
-            if (d < bestDist) {
-                bestDist = d;
-                best = e;
-            }
-        }
-        return best;
+    private Fruit nearestActiveFruit(Level level, Position from) {
+        EntityStore<Fruit> fruits = level.getFruitManager().getStore();
+        int slot = fruits.nearest(from.getRow(), from.getCol(),
+                EntityStore.ACTIVE, EntityStore.COLLECTED | EntityStore.FROZEN);
+        return slot >= 0 ? fruits.get(slot) : null;
     }
 
     // =========================
@@ -165,19 +226,21 @@ public class AIController {
 
     /**
      * Greedy hacia goal, pero penaliza volver a posiciones recientes.
+     * Con danger, descarta las celdas que un peligro alcanza casi de inmediato.
      */
-    private Direction stepToward(Board board, Position from, Position goal, Player me) {
+    private Direction stepToward(Board board, DangerMap danger, Position from, Position goal) {
         int bestScore = Integer.MAX_VALUE;
         Direction bestDir = Direction.NONE;
 
-        for (Direction d : new Direction[]{Direction.UP, Direction.DOWN, Direction.LEFT, Direction.RIGHT}) {
+        for (Direction d : DIRECTIONS) {
             Position next = from.translated(d.getDRow(), d.getDCol());
             if (!board.isInside(next)) continue;
             if (!board.isWalkable(next)) continue;
+            if (danger != null && danger.ticksToDanger(next.getRow(), next.getCol()) <= GameClock.ticks(UNSAFE_STEP_MILLIS)) continue;
 
             int dist = manhattan(next, goal);
-            int penaltyLoop = wasRecentlyThere(me, next) ? 3 : 0;
-            int score = dist + penaltyLoop;
+            int penaltyLoop = wasRecentlyThere(board, next) ? 3 : 0;
+            int score = dist + penaltyLoop + heat(board, next) / HEAT_PER_STEP;
 
             if (score < bestScore) {
                 bestScore = score;
@@ -188,22 +251,31 @@ public class AIController {
     }
 
     /**
-     * Alejarse del threat, penalizando loops y callejones.
+     * Paso que más aleja de los peligros según el DangerMap, penalizando loops.
+     * Suma también la mejor salida desde la celda siguiente, así un callejón
+     * (sin salida más que volver) queda peor que un pasillo abierto.
      */
-    private Direction stepAway(Board board, Position from, Position threat, Player me) {
+    private Direction stepToSafety(Board board, DangerMap danger, Position from) {
         int bestScore = Integer.MIN_VALUE;
         Direction bestDir = Direction.NONE;
 
-        for (Direction d : new Direction[]{Direction.UP, Direction.DOWN, Direction.LEFT, Direction.RIGHT}) {
+        for (Direction d : DIRECTIONS) {
             Position next = from.translated(d.getDRow(), d.getDCol());
             if (!board.isInside(next)) continue;
             if (!board.isWalkable(next)) continue;
 
-            int dist = manhattan(next, threat);
-            int penaltyLoop = wasRecentlyThere(me, next) ? 2 : 0;
-            int penaltyDeadEnd = (freeNeighbors(board, next) <= 1) ? 2 : 0;
+            int here = dangerTicks(danger, next);
+            if (here == 0) continue;
+
+            int onward = 0;
+            for (Direction d2 : DIRECTIONS) {
+                Position after = next.translated(d2.getDRow(), d2.getDCol());
+                if (sameCell(after, from) || !board.isInside(after) || !board.isWalkable(after)) continue;
+                onward = Math.max(onward, dangerTicks(danger, after));
+            }
 
-            int score = dist - penaltyLoop - penaltyDeadEnd;
+            int penaltyLoop = wasRecentlyThere(board, next) ? GameClock.ticks(LOOP_PENALTY_MILLIS) : 0;
+            int score = here + onward - penaltyLoop - heat(board, next) * GameClock.ticks(HEAT_MILLIS);
             if (score > bestScore) {
                 bestScore = score;
                 bestDir = d;
@@ -212,29 +284,33 @@ public class AIController {
         return bestDir;
     }
 
-    private int freeNeighbors(Board board, Position p) {
-        int count = 0;
-        for (Direction d : new Direction[]{Direction.UP, Direction.DOWN, Direction.LEFT, Direction.RIGHT}) {
-            Position n = p.translated(d.getDRow(), d.getDCol());
-            if (board.isInside(n) && board.isWalkable(n)) count++;
-        }
-        return count;
+    private int dangerTicks(DangerMap danger, Position p) {
+        return Math.min(GameClock.ticks(DANGER_HORIZON_MILLIS), danger.ticksToDanger(p.getRow(), p.getCol()));
     }
 
     /**
-     * Random, pero evita (cuando puede) posiciones recientes.
+     * Random, pero evita (cuando puede) posiciones recientes
+     * y, con el mapa de calor, se queda con las menos visitadas.
      */
-    private Direction randomWalk(Board board, Position from, Player me) {
+    private Direction randomWalk(Board board, Position from) {
         List<Direction> options = new ArrayList<>();
         List<Direction> safeOptions = new ArrayList<>();
+        int minHeat = Integer.MAX_VALUE;
 
-        for (Direction d : new Direction[]{Direction.UP, Direction.DOWN, Direction.LEFT, Direction.RIGHT}) {
+        for (Direction d : DIRECTIONS) {
             Position next = from.translated(d.getDRow(), d.getDCol());
             if (!board.isInside(next)) continue;
             if (!board.isWalkable(next)) continue;
 
             options.add(d);
-            if (!wasRecentlyThere(me, next)) safeOptions.add(d);
+            if (wasRecentlyThere(board, next)) continue;
+
+            int h = heat(board, next);
+            if (h < minHeat) {
+                minHeat = h;
+                safeOptions.clear();
+            }
+            if (h == minHeat) safeOptions.add(d);
         }
 
         if (!safeOptions.isEmpty()) {
@@ -250,98 +326,63 @@ public class AIController {
     // Memory + stuck detection
     // =========================
 
-    private void remember(Player me) {
-        lastPositions.putIfAbsent(me, new ArrayDeque<>());
-        ArrayDeque<Position> q = lastPositions.get(me);
-        q.addLast(me.getPosition());
-        while (q.size() > MEMORY) q.removeFirst();
-    }
-
-    private boolean wasRecentlyThere(Player me, Position p) {
-        ArrayDeque<Position> q = lastPositions.get(me);
-        if (q == null) return false;
-        for (Position past : q) {
-            if (past.equals(p)) return true;
-        }
-        return false;
-    }
-
     /**
-     * Detecta loops típicos:
-     *  - repetición inmediata
-     *  - ping-pong A-B-A-B
+     * Anota la celda actual si cambió desde la última llamada.
+     * El controlador sirve a un solo jugador: si cambia, la memoria empieza de nuevo.
      */
-    private boolean isStuck(Player me) {
-        ArrayDeque<Position> q = lastPositions.get(me);
-        if (q == null || q.size() < 6) return false;
+    private void remember(Board board, Player me) {
+        if (memoryOwner != me) {
+            memoryOwner = me;
+            recentHead = 0;
+            recentCount = 0;
+            stillCalls = 0;
+            visits = null;
+        }
 
-        Position[] arr = q.toArray(new Position[0]);
-        int n = arr.length;
+        int cell = board.cellIndex(me.getPosition());
+        if (recentCount > 0 && recent(0) == cell) {
+            stillCalls++;
+            return;
+        }
 
-        // Ping-pong A-B-A-B...
-        if (arr[n - 1].equals(arr[n - 3]) && arr[n - 2].equals(arr[n - 4])) return true;
+        stillCalls = 0;
+        recentCells[recentHead] = cell;
+        recentHead = (recentHead + 1) % MEMORY;
+        if (recentCount < MEMORY) recentCount++;
 
-        // Repeticiones seguidas
-        int repeats = 0;
-        for (int i = 1; i < n; i++) {
-            if (arr[i].equals(arr[i - 1])) repeats++;
+        if (visitHeatmap) {
+            if (visits == null) visits = new int[board.getRows() * board.getCols()];
+            visits[cell]++;
         }
-        return repeats >= 2;
     }
 
-    // =========================
-    // BFS rescue (first step)
-    // =========================
-
-    /**
-     * BFS para devolver SOLO el primer paso desde start hacia goal.
-     * Se usa como rescate cuando la IA está atascada.
-     */
-    private Direction bfsFirstStep(Board board, Position start, Position goal) {
-        if (start.equals(goal)) return Direction.NONE;
-
-        int rows = board.getRows();
-        int cols = board.getCols();
-
-        boolean[][] vis = new boolean[rows][cols];
-        Position[][] parent = new Position[rows][cols];
-        Direction[][] parentDir = new Direction[rows][cols];
-
-        ArrayDeque<Position> q = new ArrayDeque<>();
-        q.add(start);
-        vis[start.getRow()][start.getCol()] = true;
-
-        Direction[] dirs = {Direction.UP, Direction.DOWN, Direction.LEFT, Direction.RIGHT};
-
-        while (!q.isEmpty()) {
-            Position cur = q.poll();
-            if (cur.equals(goal)) break;
-
-            for (Direction d : dirs) {
-                Position nxt = cur.translated(d.getDRow(), d.getDCol());
-                if (!board.isInside(nxt)) continue;
-                if (vis[nxt.getRow()][nxt.getCol()]) continue;
-
-                // Permitimos llegar a goal incluso si no es walkable (por si goal está en una celda especial)
-                if (!board.isWalkable(nxt) && !nxt.equals(goal)) continue;
+    // back = 0 es la celda más reciente
+    private int recent(int back) {
+        return recentCells[(recentHead - 1 - back + MEMORY) % MEMORY];
+    }
 
-                vis[nxt.getRow()][nxt.getCol()] = true;
-                parent[nxt.getRow()][nxt.getCol()] = cur;
-                parentDir[nxt.getRow()][nxt.getCol()] = d;
-                q.add(nxt);
-            }
+    private boolean wasRecentlyThere(Board board, Position p) {
+        int cell = board.cellIndex(p);
+        for (int i = 0; i < recentCount; i++) {
+            if (recentCells[i] == cell) return true;
         }
+        return false;
+    }
 
-        if (!vis[goal.getRow()][goal.getCol()]) return Direction.NONE;
+    private int heat(Board board, Position p) {
+        return visits != null ? visits[board.cellIndex(p)] : 0;
+    }
 
-        // reconstruir: caminar hacia atrás hasta que el padre sea start
-        Position cur = goal;
-        while (parent[cur.getRow()][cur.getCol()] != null &&
-                !parent[cur.getRow()][cur.getCol()].equals(start)) {
-            cur = parent[cur.getRow()][cur.getCol()];
-        }
+    /**
+     * Detecta loops típicos:
+     *  - no logra cambiar de celda durante varios turnos de movimiento
+     *  - ping-pong A-B-A-B
+     */
+    private boolean isStuck() {
+        if (stillCalls >= STILL_MOVES_STUCK * Level.ticksPerPlayerMove()) return true;
+        if (recentCount < 4) return false;
 
-        Direction first = parentDir[cur.getRow()][cur.getCol()];
-        return (first != null) ? first : Direction.NONE;
+        // Ping-pong A-B-A-B...
+        return recent(0) == recent(2) && recent(1) == recent(3);
     }
 }
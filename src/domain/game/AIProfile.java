@@ -3,5 +3,6 @@ package domain.game;
 public enum AIProfile {
     HUNGRY,
     FEARFUL,
-    EXPERT
+    EXPERT,
+    SEARCH  // Búsqueda Monte Carlo sobre simulaciones del nivel
 }
@@ -24,37 +24,46 @@ public class CollisionDetector {
     /**
      * Jugador + frutas: si están en la misma celda,
      * se marca la fruta como recogida y se suma el puntaje.
+     * Recorre el EntityStore de frutas: solo se toca el objeto Fruit cuando la celda coincide.
      */
-    public static void checkPlayerFruit(List<Player> players, List<Fruit> fruits) {
+    public static void checkPlayerFruit(List<Player> players, EntityStore<Fruit> fruits) {
+        int n = fruits.size();
         for (Player p : players) {
-            for (Fruit f : fruits) {
-                if (f.isCollected() || f.isFrozen()) continue;
+            int row = p.getPosition().getRow();
+            int col = p.getPosition().getCol();
 
-                if (f instanceof Cactus cactus && cactus.getHasSpikesDangerous()) {
-                    if (sameCell(cactus.getPosition(), p.getPosition())) {
-                        p.onHitByEnemy(cactus);
-                        continue;
-                    }
-                }
+            for (int i = 0; i < n; i++) {
+                if (fruits.row(i) != row || fruits.col(i) != col) continue;
 
-                if (sameCell(p.getPosition(), f.getPosition())) {
-                    f.collect();
-                    p.addScore(f.getPoints());
+                int flags = fruits.flags(i);
+                if ((flags & EntityStore.ACTIVE) == 0) continue;
+                if ((flags & (EntityStore.COLLECTED | EntityStore.FROZEN)) != 0) continue;
+
+                Fruit f = fruits.get(i);
+                if ((flags & EntityStore.DANGEROUS) != 0) {
+                    p.onHitByEnemy(f);
+                    continue;
                 }
+
+                f.collect();
+                p.addScore(f.getPoints());
             }
         }
     }
 
-
     /**
      * Jugador + enemigos: si están en la misma celda,
      * se llama a la lógica de "golpe" del jugador.
      */
-    public static void checkPlayerEnemy(List<Player> players, List<Enemy> enemies) {
+    public static void checkPlayerEnemy(List<Player> players, EntityStore<Enemy> enemies) {
+        int n = enemies.size();
         for (Player p : players) {
-            for (Enemy e : enemies) {
-                if (sameCell(p.getPosition(), e.getPosition())) {
-                    p.onHitByEnemy(e);
+            int row = p.getPosition().getRow();
+            int col = p.getPosition().getCol();
+
+            for (int i = 0; i < n; i++) {
+                if (enemies.row(i) == row && enemies.col(i) == col) {
+                    p.onHitByEnemy(enemies.get(i));
                 }
             }
         }
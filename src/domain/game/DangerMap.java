@@ -0,0 +1,159 @@
+package domain.game;
+
+import domain.entities.*;
+import domain.model.Board;
+import domain.model.CellType;
+import domain.model.PathScratch;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Campo de peligro del nivel, recalculado una vez por tick y compartido por todas las IA.
+ * Para cada celda guarda una estimación de cuántos ticks faltan para que un peligro llegue:
+ * BFS multi-origen desde los enemigos (cada paso cuesta según la velocidad y el tipo del enemigo),
+ * más las fogatas encendidas y los cactus con púas, que son mortales solo en su propia celda.
+ */
+public class DangerMap {
+
+    public static final int SAFE = Integer.MAX_VALUE;
+
+    // Tiempo de juego por casilla de cada tipo de enemigo; el troll no persigue, así que pesa el doble
+    private static final long TROLL_COST_MILLIS = 383 * 2;
+    private static final long MACETA_COST_MILLIS = 200;
+    private static final long SQUID_COST_MILLIS = 367;
+    private static final long NARVAL_COST_MILLIS = 200; // Patrulla lento pero embiste rápido al alinearse
+    private static final long DEFAULT_COST_MILLIS = 333;
+
+    private static final int[] DR = {-1, 1, 0, 0};
+    private static final int[] DC = {0, 0, 1, -1};
+
+    private final int rows;
+    private final int cols;
+    private final int[] ticks;
+
+    // Grupos de enemigos con el mismo costo por casilla y la misma capacidad de romper hielo
+    private int[] groupCost = new int[4];
+    private boolean[] groupBreaksIce = new boolean[4];
+    private int groupCount;
+
+    public DangerMap(Board board) {
+        this.rows = board.getRows();
+        this.cols = board.getCols();
+        this.ticks = new int[rows * cols];
+        Arrays.fill(ticks, SAFE);
+    }
+
+    /**
+     * Recalcula el campo con el estado actual del nivel
+     */
+    public void update(Level level) {
+        Board board = level.getBoard();
+        Arrays.fill(ticks, SAFE);
+
+        List<Enemy> enemies = level.getEnemies();
+        collectGroups(enemies);
+        if (groupCount > 0) {
+            PathScratch scratch = level.getScratch().acquire();
+            try {
+                for (int g = 0; g < groupCount; g++) {
+                    spread(board, scratch, enemies, groupCost[g], groupBreaksIce[g]);
+                }
+            } finally {
+                level.getScratch().release(scratch);
+            }
+        }
+
+        for (Campfire campfire : level.getCampfires()) {
+            if (campfire.isLit()) ticks[board.cellIndex(campfire.getPosition())] = 0;
+        }
+
+        EntityStore<Fruit> fruits = level.getFruitManager().getStore();
+        for (int i = 0; i < fruits.size(); i++) {
+            if (!fruits.hasFlag(i, EntityStore.ACTIVE) || !fruits.hasFlag(i, EntityStore.DANGEROUS)) continue;
+            if (fruits.hasFlag(i, EntityStore.COLLECTED | EntityStore.FROZEN)) continue;
+            ticks[board.cellIndex(fruits.row(i), fruits.col(i))] = 0;
+        }
+    }
+
+    private void collectGroups(List<Enemy> enemies) {
+        groupCount = 0;
+        for (Enemy e : enemies) {
+            int cost = costOf(e);
+            boolean ice = breaksIce(e);
+
+            boolean known = false;
+            for (int g = 0; g < groupCount && !known; g++) {
+                known = groupCost[g] == cost && groupBreaksIce[g] == ice;
+            }
+            if (known) continue;
+
+            if (groupCount == groupCost.length) {
+                groupCost = Arrays.copyOf(groupCost, groupCount * 2);
+                groupBreaksIce = Arrays.copyOf(groupBreaksIce, groupCount * 2);
+            }
+            groupCost[groupCount] = cost;
+            groupBreaksIce[groupCount] = ice;
+            groupCount++;
+        }
+    }
+
+    // BFS desde todos los enemigos del grupo; cada casilla recorrida suma cost ticks
+    private void spread(Board board, PathScratch scratch, List<Enemy> enemies, int cost, boolean ice) {
+        scratch.begin();
+
+        for (Enemy e : enemies) {
+            if (costOf(e) != cost || breaksIce(e) != ice) continue;
+            int idx = board.cellIndex(e.getPosition());
+            if (!scratch.isVisited(idx)) scratch.visit(idx, -1, 0);
+        }
+
+        while (scratch.hasQueued()) {
+            int cur = scratch.poll();
+            int t = scratch.value(cur) * cost;
+            if (t < ticks[cur]) ticks[cur] = t;
+
+            int r = cur / cols;
+            int c = cur % cols;
+            for (int d = 0; d < 4; d++) {
+                int nr = r + DR[d];
+                int nc = c + DC[d];
+                if (nr < 0 || nr >= rows || nc < 0 || nc >= cols) continue;
+
+                int next = nr * cols + nc;
+                if (scratch.isVisited(next)) continue;
+
+                CellType type = board.getCellType(next);
+                boolean passable = type.isTraversable()
+                        || (ice && (type == CellType.ICE_BLOCK || type == CellType.PLAYER_ICE));
+                if (!passable) continue;
+
+                scratch.visit(next, cur, scratch.value(cur) + 1);
+            }
+        }
+    }
+
+    private static int costOf(Enemy e) {
+        if (e instanceof Troll) return GameClock.ticks(TROLL_COST_MILLIS);
+        if (e instanceof Maceta) return GameClock.ticks(MACETA_COST_MILLIS);
+        if (e instanceof OrangeSquid) return GameClock.ticks(SQUID_COST_MILLIS);
+        if (e instanceof Narval) return GameClock.ticks(NARVAL_COST_MILLIS);
+        return GameClock.ticks(DEFAULT_COST_MILLIS);
+    }
+
+    private static boolean breaksIce(Enemy e) {
+        return e instanceof OrangeSquid || e instanceof Narval;
+    }
+
+    /**
+     * Ticks estimados hasta que un peligro alcance la celda (SAFE si ninguno puede llegar)
+     */
+    public int ticksToDanger(int row, int col) {
+        if (row < 0 || row >= rows || col < 0 || col >= cols) return SAFE;
+        return ticks[row * cols + col];
+    }
+
+    public boolean isDeadly(int row, int col) {
+        return ticksToDanger(row, col) == 0;
+    }
+}
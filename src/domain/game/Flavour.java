@@ -1,17 +1,25 @@
 package domain.game;
 
+/**
+ * Sabores de helado. Cada uno sabe cuánto dura su animación de muerte (el largo de su GIF);
+ * es fijo para que el juego dure lo mismo con o sin pantalla.
+ */
 public enum Flavour {
-    VANILLA("vanilla"),
-    STRAWBERRY("strawberry"),
-    CHOCOLATE("chocolate");
+    VANILLA("vanilla", 4400),
+    STRAWBERRY("strawberry", 6000),
+    CHOCOLATE("chocolate", 6000);
 
     private final String prefix;
+    private final long deathAnimationMillis;
 
-    Flavour(String prefix) {
+    Flavour(String prefix, long deathAnimationMillis) {
         this.prefix = prefix;
+        this.deathAnimationMillis = deathAnimationMillis;
     }
 
     public String prefix() {
         return prefix;
     }
+
+    public long getDeathAnimationMillis() { return deathAnimationMillis; }
 }
@@ -0,0 +1,152 @@
+package domain.game;
+
+import domain.entities.*;
+import domain.model.Board;
+import domain.model.BoardChangeLog;
+import domain.model.CellType;
+import domain.utils.Direction;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Foto de lo que hay que dibujar de un nivel en un tick: celdas, entidades y valores del HUD.
+ * La llena el hilo del juego al final de cada tick y se publica en un TripleBuffer;
+ * mientras está publicada nadie la modifica, así el dibujo nunca lee un nivel a medio actualizar.
+ * Las celdas se ponen al día con el BoardChangeLog (cada foto guarda su propio cursor);
+ * las entidades viven en arreglos paralelos, en el orden en que se dibujan, con el tick
+ * de su animación para que los GIF avancen con el juego.
+ */
+public class FrameSnapshot {
+
+    // Estado de cada entidad que cambia su imagen
+    public static final int FROZEN = 1;
+    public static final int LIT = 1 << 1;
+    public static final int DANGEROUS = 1 << 2;
+    public static final int DEAD = 1 << 3;
+    public static final int DEATH_FINISHED = 1 << 4;
+
+    private static final CellType[] TYPES = CellType.values();
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final Flavour[] FLAVOURS = Flavour.values();
+
+    private int rows;
+    private int cols;
+    private byte[] cells = new byte[0];
+    private long cellCursor = -1;
+
+    private int entityCount;
+    private Class<?>[] kinds = new Class<?>[32];
+    private int[] rowOf = new int[32];
+    private int[] colOf = new int[32];
+    private byte[] directions = new byte[32];
+    private byte[] flags = new byte[32];
+    private byte[] flavours = new byte[32];
+    private int[] animationTicks = new int[32];
+
+    private int tick;
+    private int playerCount;
+    private int scoreP1;
+    private int scoreP2;
+    private int remainingSeconds;
+    private boolean timeUp;
+
+    /**
+     * Copia el estado del nivel; solo la llama el hilo del juego
+     */
+    void capture(Level level, int remainingSeconds, boolean timeUp) {
+        Board board = level.getBoard();
+        captureCells(board);
+
+        entityCount = 0;
+        for (Campfire campfire : level.getCampfires()) {
+            // Una fogata tapada por hielo no se ve
+            if (board.getCellType(campfire.getPosition()) == CellType.PLAYER_ICE) continue;
+            add(campfire, Direction.NONE, campfire.isLit() ? LIT : 0, null, level.getTick());
+        }
+        for (Fruit f : level.getFruitManager().getActiveFruits()) {
+            if (f.isCollected()) continue;
+            int state = (f.isFrozen() ? FROZEN : 0)
+                    | (f instanceof Cactus c && c.isDangerous() ? DANGEROUS : 0);
+            add(f, Direction.NONE, state, null, level.getTick());
+        }
+
+        List<Player> players = level.getPlayers();
+        for (Player p : players) {
+            int state = (p.isDead() ? DEAD : 0) | (p.isDeathAnimationFinished() ? DEATH_FINISHED : 0);
+            // Muerto, su animación empieza al morir
+            add(p, p.getDirection(), state, p.getFlavour(), p.isDead() ? p.getDeathAnimationTicks() : level.getTick());
+        }
+        for (Enemy e : level.getEnemies()) {
+            add(e, e.getDirection(), 0, null, level.getTick());
+        }
+
+        this.tick = level.getTick();
+        this.playerCount = players.size();
+        this.scoreP1 = players.isEmpty() ? 0 : players.get(0).getScore();
+        this.scoreP2 = players.size() > 1 ? players.get(1).getScore() : 0;
+        this.remainingSeconds = remainingSeconds;
+        this.timeUp = timeUp;
+    }
+
+    // Aplica los cambios desde la última vez que se llenó esta foto, o copia todo si se quedó atrás
+    private void captureCells(Board board) {
+        BoardChangeLog log = board.getChangeLog();
+        int size = board.getRows() * board.getCols();
+
+        if (cellCursor < 0 || cells.length != size || log.isOverrun(cellCursor)) {
+            rows = board.getRows();
+            cols = board.getCols();
+            if (cells.length != size) cells = new byte[size];
+            for (int i = 0; i < size; i++) cells[i] = (byte) board.getCellType(i).ordinal();
+            cellCursor = log.getHead();
+            return;
+        }
+        cellCursor = log.readSince(cellCursor, (cell, oldType, newType, t) -> cells[cell] = (byte) newType.ordinal());
+    }
+
+    private void add(Entity entity, Direction direction, int state, Flavour flavour, int animationTick) {
+        if (entityCount == kinds.length) {
+            int n = entityCount * 2;
+            kinds = Arrays.copyOf(kinds, n);
+            rowOf = Arrays.copyOf(rowOf, n);
+            colOf = Arrays.copyOf(colOf, n);
+            directions = Arrays.copyOf(directions, n);
+            flags = Arrays.copyOf(flags, n);
+            flavours = Arrays.copyOf(flavours, n);
+            animationTicks = Arrays.copyOf(animationTicks, n);
+        }
+        int i = entityCount++;
+        kinds[i] = entity.getClass();
+        rowOf[i] = entity.getPosition().getRow();
+        colOf[i] = entity.getPosition().getCol();
+        directions[i] = (byte) direction.ordinal();
+        flags[i] = (byte) state;
+        flavours[i] = (byte) (flavour != null ? flavour.ordinal() : 0);
+        animationTicks[i] = animationTick;
+    }
+
+    public int getRows() { return rows; }
+    public int getCols() { return cols; }
+    public CellType cell(int row, int col) { return TYPES[cells[row * cols + col]]; }
+
+    public int getEntityCount() { return entityCount; }
+    public Class<?> kind(int i) { return kinds[i]; }
+    public int row(int i) { return rowOf[i]; }
+    public int col(int i) { return colOf[i]; }
+    public Direction direction(int i) { return DIRECTIONS[directions[i]]; }
+    public boolean hasFlag(int i, int flag) { return (flags[i] & flag) != 0; }
+    public Flavour flavour(int i) { return FLAVOURS[flavours[i]]; }
+
+    /**
+     * Ticks de la animación que está mostrando la entidad (elige el cuadro de sus GIF)
+     */
+    public int animationTick(int i) { return animationTicks[i]; }
+
+    public int getTick() { return tick; }
+    public int getPlayerCount() { return playerCount; }
+    public int getScoreP1() { return scoreP1; }
+    public int getScoreP2() { return scoreP2; }
+    public int getRemainingSeconds() { return remainingSeconds; }
+    public boolean isTimeUp() { return timeUp; }
+}
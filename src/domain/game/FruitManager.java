@@ -1,47 +1,80 @@
 package domain.game;
 
+import domain.entities.EntityStore;
 import domain.entities.Fruit;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
- * Maneja y activa las frutas como listas
+ * Maneja y activa las frutas como listas.
+ * Las frutas se agrupan por clase de fase al cargar el nivel, así cambiar de fase
+ * y saber si la fase terminó no requiere recorrer todas las frutas.
  */
 public class FruitManager {
 
     private final List<Fruit> allFruits;
-    private final List<Fruit> activeFruits = new ArrayList<>();
+    private List<Fruit> activeFruits = new ArrayList<>();
+    private final EntityStore<Fruit> store = new EntityStore<>();
+
+    // Frutas y máscara de tipos de cada clase de fase
+    private final Map<Class<? extends Fruit>, List<Fruit>> phaseBuckets = new HashMap<>();
+    private final Map<Class<? extends Fruit>, Long> phaseMasks = new HashMap<>();
 
     public FruitManager(List<Fruit> allFruits) {
+        this(allFruits, null);
+    }
+
+    public FruitManager(List<Fruit> allFruits, List<Class<? extends Fruit>> fruitPhases) {
         this.allFruits = allFruits != null ? allFruits : new ArrayList<>();
+        for (Fruit f : this.allFruits) {
+            store.add(f);
+        }
+        store.setActiveTypes(0L);
+
+        if (fruitPhases != null) {
+            for (Class<? extends Fruit> phase : fruitPhases) {
+                bucketFor(phase);
+            }
+        }
     }
 
     public List<Fruit> getAllFruits() { return allFruits; }
 
     public List<Fruit> getActiveFruits() { return activeFruits; }
 
+    public EntityStore<Fruit> getStore() { return store; }
+
     // Activa todas las frutas
     public void activateAll() {
-        activeFruits.clear();
-        activeFruits.addAll(allFruits);
+        activeFruits = allFruits;
+        store.setActiveTypes(-1L);
     }
 
     // Activa solo las frutas de una clase concreta (Banana, Grape, etc.)
     public void activateByClass(Class<? extends Fruit> clazz) {
-        activeFruits.clear();
+        activeFruits = bucketFor(clazz);
+        store.setActiveTypes(phaseMasks.get(clazz));
+    }
+
+    // Agrupa una sola vez las frutas de la clase (en las fases conocidas ya se hizo al cargar)
+    private List<Fruit> bucketFor(Class<? extends Fruit> clazz) {
+        List<Fruit> bucket = phaseBuckets.get(clazz);
+        if (bucket != null) return bucket;
+
+        bucket = new ArrayList<>();
         for (Fruit f : allFruits) {
-            if (clazz.isInstance(f)) {
-                activeFruits.add(f);
-            }
+            if (clazz.isInstance(f)) bucket.add(f);
         }
+        phaseBuckets.put(clazz, bucket);
+        phaseMasks.put(clazz, store.maskFor(clazz));
+        return bucket;
     }
 
     // ¿Ya se comieron todas las frutas activas?
     public boolean allActiveCollected() {
-        for (Fruit f : activeFruits) {
-            if (!f.isCollected()) return false;
-        }
-        return true;
+        return store.getActiveUncollected() == 0;
     }
 }
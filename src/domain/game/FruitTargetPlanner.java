@@ -0,0 +1,200 @@
+package domain.game;
+
+import domain.entities.EntityStore;
+import domain.entities.Fruit;
+import domain.entities.Player;
+import domain.model.Board;
+import domain.model.PathScratch;
+import domain.utils.Direction;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reparte las frutas entre los jugadores máquina de un nivel.
+ * Una vez por tick hace un BFS multi-origen desde las frutas libres: cada celda queda con la
+ * distancia real (caminando) a la fruta más cercana y cuál es. El jugador más cercano se queda
+ * con su fruta, que sale de los orígenes, y se repite con los que faltan (asignación codiciosa).
+ * Si no quedan frutas libres, los jugadores sin asignar comparten la más cercana.
+ * El primer paso de cada jugador baja por el gradiente de distancias hacia su fruta.
+ */
+public class FruitTargetPlanner {
+
+    private static final Direction[] DIRECTIONS = {Direction.UP, Direction.DOWN, Direction.LEFT, Direction.RIGHT};
+
+    private final int rows;
+    private final int cols;
+
+    // Campo de la ronda actual (del ScratchArena del nivel): valor = distancia a la fruta
+    // libre más cercana, etiqueta = su slot en el store. Solo vale durante plan.
+    private PathScratch field;
+
+    // Jugadores que pidieron objetivo alguna vez; se reparten entre todos en cada tick
+    private final List<Player> agents = new ArrayList<>();
+    private int[] assigned = new int[0];
+    private Direction[] steps = new Direction[0];
+    private boolean[] claimed = new boolean[0];
+    private int plannedTick = -1;
+
+    public FruitTargetPlanner(Board board) {
+        this.rows = board.getRows();
+        this.cols = board.getCols();
+    }
+
+    /**
+     * Fruta asignada al jugador en este tick, o null si no alcanza ninguna
+     */
+    public Fruit targetFor(Level level, Player me) {
+        int a = ensurePlanned(level, me);
+        return assigned[a] >= 0 ? level.getFruitManager().getStore().get(assigned[a]) : null;
+    }
+
+    /**
+     * Primer paso del camino más corto hacia la fruta asignada (NONE si no hay o ya está encima)
+     */
+    public Direction firstStep(Level level, Player me) {
+        return steps[ensurePlanned(level, me)];
+    }
+
+    private int ensurePlanned(Level level, Player me) {
+        int a = agents.indexOf(me);
+        if (a < 0) {
+            agents.add(me);
+            a = agents.size() - 1;
+            assigned = Arrays.copyOf(assigned, agents.size());
+            steps = Arrays.copyOf(steps, agents.size());
+            plannedTick = -1;
+        }
+        if (plannedTick != level.getTick()) {
+            field = level.getScratch().acquire();
+            try {
+                plan(level);
+            } finally {
+                level.getScratch().release(field);
+                field = null;
+            }
+            plannedTick = level.getTick();
+        }
+        return a;
+    }
+
+    private void plan(Level level) {
+        Board board = level.getBoard();
+        EntityStore<Fruit> fruits = level.getFruitManager().getStore();
+
+        if (claimed.length < fruits.size()) claimed = new boolean[fruits.size()];
+        Arrays.fill(claimed, false);
+        Arrays.fill(assigned, -1);
+        Arrays.fill(steps, Direction.NONE);
+
+        int pending = 0;
+        for (Player p : agents) {
+            if (!p.isDead()) pending++;
+        }
+
+        while (pending > 0) {
+            if (fillField(board, fruits, true) == 0) break;
+
+            int best = closestUnassigned(board);
+            if (best < 0) break;
+
+            assign(best);
+            claimed[assigned[best]] = true;
+            pending--;
+        }
+
+        // Más jugadores que frutas alcanzables: los que quedan van a la más cercana aunque esté tomada
+        if (pending > 0 && fillField(board, fruits, false) > 0) {
+            for (int a = 0; a < agents.size(); a++) {
+                Player p = agents.get(a);
+                if (assigned[a] >= 0 || p.isDead()) continue;
+                if (!field.isVisited(board.cellIndex(p.getPosition()))) continue;
+                assign(a);
+            }
+        }
+    }
+
+    // BFS multi-origen desde las frutas activas, sin recoger ni congelar; devuelve cuántos orígenes hubo
+    private int fillField(Board board, EntityStore<Fruit> fruits, boolean skipClaimed) {
+        field.begin();
+        int sources = 0;
+
+        for (int i = 0; i < fruits.size(); i++) {
+            if (!fruits.hasFlag(i, EntityStore.ACTIVE)) continue;
+            if (fruits.hasFlag(i, EntityStore.COLLECTED | EntityStore.FROZEN)) continue;
+            if (skipClaimed && claimed[i]) continue;
+
+            int idx = board.cellIndex(fruits.row(i), fruits.col(i));
+            if (field.isVisited(idx)) continue;
+            field.visit(idx, -1, 0);
+            field.setLabel(idx, i);
+            sources++;
+        }
+
+        while (field.hasQueued()) {
+            int cur = field.poll();
+            int r = cur / cols;
+            int c = cur % cols;
+            for (Direction d : DIRECTIONS) {
+                int nr = r + d.getDRow();
+                int nc = c + d.getDCol();
+                if (nr < 0 || nr >= rows || nc < 0 || nc >= cols) continue;
+
+                int next = nr * cols + nc;
+                if (field.isVisited(next)) continue;
+                if (!board.getCellType(next).isTraversable()) continue;
+
+                field.visit(next, cur, field.value(cur) + 1);
+                field.setLabel(next, field.label(cur));
+            }
+        }
+        return sources;
+    }
+
+    private int closestUnassigned(Board board) {
+        int best = -1;
+        int bestDist = Integer.MAX_VALUE;
+        for (int a = 0; a < agents.size(); a++) {
+            Player p = agents.get(a);
+            if (assigned[a] >= 0 || p.isDead()) continue;
+
+            int cell = board.cellIndex(p.getPosition());
+            if (!field.isVisited(cell)) continue;
+
+            int d = field.value(cell);
+            if (d < bestDist) {
+                bestDist = d;
+                best = a;
+            }
+        }
+        return best;
+    }
+
+    // Toma la fruta dueña de la celda del jugador y el vecino que baja el gradiente hacia ella
+    private void assign(int a) {
+        int r = agents.get(a).getPosition().getRow();
+        int c = agents.get(a).getPosition().getCol();
+        int here = r * cols + c;
+        int target = field.label(here);
+        assigned[a] = target;
+
+        Direction step = Direction.NONE;
+        for (Direction d : DIRECTIONS) {
+            int nr = r + d.getDRow();
+            int nc = c + d.getDCol();
+            if (nr < 0 || nr >= rows || nc < 0 || nc >= cols) continue;
+
+            int next = nr * cols + nc;
+            if (!field.isVisited(next) || field.value(next) != field.value(here) - 1) continue;
+
+            // Con empate entre frutas, preferir el vecino que lleva a la propia
+            if (field.label(next) == target) {
+                step = d;
+                break;
+            }
+            if (step == Direction.NONE) step = d;
+        }
+        steps[a] = step;
+    }
+}
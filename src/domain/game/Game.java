@@ -1,11 +1,24 @@
 package domain.game;
 import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.util.List;
 
 /**
  * Maneja y monitorea las dinámicas del juego entre acciones de diferentes pantallas
+ * Las teclas y los clics llegan desde el hilo de Swing: se encolan con su hora y se aplican
+ * al comienzo del siguiente tick, en el hilo del juego, así nunca tocan el nivel a mitad de un update.
  */
 public class Game {
-    private GameState currentState;
+    // Lo escribe el hilo del juego y lo lee el de Swing al dibujar
+    private volatile GameState currentState;
+
+    private final InputQueue input = new InputQueue(256);
+
+    // Latencia entre que llega un evento y se aplica en un tick
+    private long lastInputLatencyNanos = 0;
+    private long maxInputLatencyNanos = 0;
+    private long totalInputLatencyNanos = 0;
+    private long inputEvents = 0;
 
     public void setState(GameState state) {
         this.currentState = state;
@@ -13,32 +26,63 @@ public class Game {
     public GameState getState() { return this.currentState; }
 
     public void update() {
-        if(this.currentState != null) {
-            this.currentState.update();
+        input.drain(this::dispatch);
+
+        GameState state = this.currentState;
+        if(state != null) {
+            state.update();
+        }
+    }
+
+    // Aplica un evento al estado actual (que puede cambiar entre un evento y el siguiente)
+    private void dispatch(int kind, int a, int b, long nanos) {
+        long latency = System.nanoTime() - nanos;
+        lastInputLatencyNanos = latency;
+        maxInputLatencyNanos = Math.max(maxInputLatencyNanos, latency);
+        totalInputLatencyNanos += latency;
+        inputEvents++;
+
+        GameState state = this.currentState;
+        if (state == null) return;
+
+        switch (kind) {
+            case InputQueue.KEY_PRESSED -> state.keyPressed(a);
+            case InputQueue.KEY_RELEASED -> state.keyReleased(a);
+            case InputQueue.MOUSE_CLICKED -> state.mouseClicked(a, b);
         }
     }
 
+    public long getLastInputLatencyNanos() { return lastInputLatencyNanos; }
+    public long getMaxInputLatencyNanos() { return maxInputLatencyNanos; }
+    public long getAverageInputLatencyNanos() { return inputEvents == 0 ? 0 : totalInputLatencyNanos / inputEvents; }
+    public long getDroppedInputEvents() { return input.getDropped(); }
+
     public void render(Graphics2D g) {
-        if(this.currentState != null) {
-            this.currentState.render(g);
+        GameState state = this.currentState;
+        if(state != null) {
+            state.render(g);
         }
     }
 
+    /**
+     * Redibujo parcial del estado actual (ver GameState.renderDirty); null si hay que dibujar todo
+     */
+    public List<Rectangle> renderDirty(Graphics2D g) {
+        GameState state = this.currentState;
+        return state != null ? state.renderDirty(g) : null;
+    }
+
+    // Llamados desde el hilo de Swing: solo encolan, el tick siguiente los aplica
+
     public void keyPressed(int keyCode) {
-        if(this.currentState != null) {
-            this.currentState.keyPressed(keyCode);
-        }
+        input.offer(InputQueue.KEY_PRESSED, keyCode, 0, System.nanoTime());
     }
 
     public void keyReleased(int keyCode) {
-        if(this.currentState != null) {
-            this.currentState.keyReleased(keyCode);
-        }
+        input.offer(InputQueue.KEY_RELEASED, keyCode, 0, System.nanoTime());
     }
 
     public void mouseClicked(Integer x, Integer y) {
-        if (this.currentState != null) {
-            this.currentState.mouseClicked(x,y);
-        }
+        input.offer(InputQueue.MOUSE_CLICKED, x, y, System.nanoTime());
     }
 }
@@ -0,0 +1,64 @@
+package domain.game;
+
+/**
+ * Reloj del juego.
+ * tickRate: cuántos ticks de simulación hay en un segundo de juego (resolución).
+ * timeScale: qué tan rápido corre el tiempo de juego respecto al real (1 = tiempo real,
+ * 100 = cien veces más rápido, por ejemplo para evaluar la IA sin pantalla).
+ * Las duraciones del juego se escriben en milisegundos de juego y se pasan a ticks con
+ * ticks(ms); así cambiar la frecuencia no cambia cuánto dura cada cosa.
+ * A la frecuencia por defecto (60 Hz) las conversiones dan los mismos ticks de siempre.
+ * Ojo: el bucle de la ventana antes dormía 25 ms (40 Hz) aunque las constantes eran para 60 Hz;
+ * ahora corre a 60 Hz, así que en tiempo real todo va 1,5 veces más rápido que antes.
+ */
+public final class GameClock {
+
+    public static final int DEFAULT_TICK_RATE = 60;
+
+    private static volatile int tickRate = DEFAULT_TICK_RATE;
+    private static volatile double timeScale = 1.0;
+
+    private GameClock() {}
+
+    public static int getTickRate() { return tickRate; }
+
+    public static void setTickRate(int ticksPerSecond) {
+        if (ticksPerSecond <= 0) throw new IllegalArgumentException("La frecuencia debe ser positiva: " + ticksPerSecond);
+        tickRate = ticksPerSecond;
+    }
+
+    public static double getTimeScale() { return timeScale; }
+
+    public static void setTimeScale(double scale) {
+        if (scale <= 0) throw new IllegalArgumentException("La escala de tiempo debe ser positiva: " + scale);
+        timeScale = scale;
+    }
+
+    /**
+     * Ticks que dura un intervalo de juego (como mínimo uno)
+     */
+    public static int ticks(long millis) {
+        return (int) Math.max(1, Math.round(millis * (double) tickRate / 1000.0));
+    }
+
+    /**
+     * Milisegundos de juego que representan los ticks dados
+     */
+    public static long millis(long ticks) {
+        return ticks * 1000 / tickRate;
+    }
+
+    /**
+     * Segundos enteros de juego que representan los ticks dados
+     */
+    public static int seconds(int ticks) {
+        return ticks / tickRate;
+    }
+
+    /**
+     * Tiempo real entre dos ticks según la frecuencia y la escala
+     */
+    public static long nanosPerTick() {
+        return Math.max(1L, Math.round(1_000_000_000.0 / (tickRate * timeScale)));
+    }
+}
@@ -1,14 +1,13 @@
 package domain.game;
 
 import presentation.GamePanel;
+import presentation.ImageRegistry;
 
 import java.awt.*;
 import java.awt.event.KeyEvent;
-import java.util.Objects;
 
 import presentation.MenuState;
 
-import javax.swing.*;
 
 /**
  * Estado de derrota (Game Over) cuando el jugador muere o se acaba el tiempo.
@@ -35,7 +34,7 @@ public class GameOverState implements GameState {
 
     private void loadAssets() {
         try {
-            gameOverImage = new ImageIcon(Objects.requireNonNull(getClass().getResource("/game-over-state.png"))).getImage();
+            gameOverImage = ImageRegistry.get("/game-over-state.png");
         } catch (Exception e) {
             System.err.println("Error cargando imagen de pérdida: " + e.getMessage());
         }
@@ -1,6 +1,8 @@
 package domain.game;
 
 import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.util.List;
 
 /**
  * Interfaz que establece los mínimos que debe tener cada uno de los estados del juego.
@@ -8,6 +10,12 @@ import java.awt.Graphics2D;
 public interface GameState {
     void update();
     void render(Graphics2D g);
+
+    /**
+     * Dibuja sobre el frame anterior solo lo que cambió y retorna las zonas tocadas.
+     * null si el estado no lo soporta y hay que redibujar todo con render.
+     */
+    default List<Rectangle> renderDirty(Graphics2D g) { return null; }
     void keyPressed(Integer keyCode);
     void keyReleased(Integer keyCode);
     default void mouseClicked(Integer x, Integer y) {}
@@ -0,0 +1,98 @@
+package domain.game;
+
+import domain.entities.Player;
+import domain.model.Position;
+import domain.utils.Direction;
+
+/**
+ * Evalúa si a un jugador máquina le conviene disparar hielo en vez de moverse.
+ * Simula el rayo en las cuatro direcciones con IceRayEngine.preview (no modifica nada)
+ * y puntúa el efecto: bloquear a un enemigo que se acerca, apagar fogatas,
+ * abrir o cerrar el camino hacia la fruta objetivo, descongelar frutas (bueno)
+ * o congelarlas (malo).
+ */
+public class IceActionEvaluator {
+
+    // Puntaje mínimo para preferir disparar antes que moverse
+    private static final int MIN_SCORE = 4;
+
+    private static final int CAMPFIRE_SCORE = 3;
+    private static final int UNFREEZE_SCORE = 4;
+    private static final int FREEZE_PENALTY = 20;
+    private static final int REOPEN_PENALTY = 10;
+    private static final int PATH_SCORE = 6;
+
+    // Un bloqueo vale más cuanto más cerca está el enemigo
+    private static final int BLOCK_RANGE = 6;
+
+    private static final Direction[] DIRECTIONS = {Direction.UP, Direction.DOWN, Direction.LEFT, Direction.RIGHT};
+
+    private final int blockWeight;
+
+    public IceActionEvaluator(AIProfile profile) {
+        this.blockWeight = switch (profile) {
+            case HUNGRY -> 0;   // Solo le interesan las frutas
+            case FEARFUL -> 3;
+            case EXPERT, SEARCH -> 2;
+        };
+    }
+
+    /**
+     * Mejor disparo para el jugador, o null si ninguno supera el puntaje mínimo.
+     * target es la fruta a la que se dirige (puede ser null).
+     */
+    public AIAction bestFire(Level level, Player me, Position target) {
+        IceRayEngine engine = level.getIceRays();
+        Position from = me.getPosition();
+
+        int bestScore = MIN_SCORE - 1;
+        Direction bestDir = null;
+
+        for (Direction d : DIRECTIONS) {
+            int score = score(engine.preview(from, d), towards(from, d, target));
+            if (score > bestScore) {
+                bestScore = score;
+                bestDir = d;
+            }
+        }
+        return bestDir != null ? AIAction.fire(bestDir) : null;
+    }
+
+    // True si dar un paso en d acerca al objetivo
+    private boolean towards(Position from, Direction d, Position target) {
+        if (target == null) return false;
+        int before = Math.abs(from.getRow() - target.getRow()) + Math.abs(from.getCol() - target.getCol());
+        int after = Math.abs(from.getRow() + d.getDRow() - target.getRow())
+                + Math.abs(from.getCol() + d.getDCol() - target.getCol());
+        return after < before;
+    }
+
+    private int score(IceRayResult r, boolean towardsTarget) {
+        int score = r.getCampfiresPutOut() * CAMPFIRE_SCORE;
+
+        switch (r.getKind()) {
+            case CREATE -> {
+                score -= r.getAffectedFruits() * FREEZE_PENALTY;
+
+                // No taparse el camino hacia la fruta
+                if (towardsTarget && r.getChangedCells() > 0) score -= PATH_SCORE;
+
+                // El rayo queda entre nosotros y el enemigo
+                if (r.isEnemyInLine() && r.getChangedCells() > 0) {
+                    score += blockWeight * Math.max(0, BLOCK_RANGE - r.getLength() + 1);
+                }
+            }
+            case BREAK -> {
+                score += r.getAffectedFruits() * UNFREEZE_SCORE;
+
+                // El hielo está entre nosotros y la fruta
+                if (towardsTarget) score += PATH_SCORE;
+
+                // Romper el hielo dejaría pasar a un enemigo que está justo detrás
+                if (r.isEnemyInLine()) score -= REOPEN_PENALTY;
+            }
+            case NONE -> { return Integer.MIN_VALUE; }
+        }
+        return score;
+    }
+}
@@ -0,0 +1,231 @@
+package domain.game;
+
+import domain.entities.*;
+import domain.model.*;
+import domain.utils.Direction;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Coloca o rompe rayos de hielo desde un jugador.
+ * Recorre el tablero una sola vez usando índices por celda (fogatas y enemigos)
+ * en vez de buscar entre todas las entidades en cada casilla; las frutas del tramo
+ * se congelan o descongelan al final en una sola pasada por el almacén de frutas.
+ * También permite simular un disparo sin modificar nada (para que la IA evalúe acciones).
+ */
+public class IceRayEngine {
+
+    private final Level level;
+    private final Board board;
+
+    // Índice + 1 de la fogata en cada celda (0 = ninguna); las fogatas no se mueven
+    private final int[] campfireAt;
+
+    // Una celda está marcada si su sello coincide con el del disparo actual
+    private final int[] enemyMark;
+    private final int[] rayMark;
+    private int stamp = 0;
+
+    // Cuántas celdas más allá del hielo roto se busca un enemigo
+    private static final int ENEMY_LOOKAHEAD = 3;
+
+    public IceRayEngine(Level level) {
+        this.level = level;
+        this.board = level.getBoard();
+
+        int cells = board.getRows() * board.getCols();
+        this.campfireAt = new int[cells];
+        this.enemyMark = new int[cells];
+        this.rayMark = new int[cells];
+
+        List<Campfire> campfires = level.getCampfires();
+        for (int i = 0; i < campfires.size(); i++) {
+            int idx = board.cellIndex(campfires.get(i).getPosition());
+            if (campfireAt[idx] == 0) campfireAt[idx] = i + 1;
+        }
+    }
+
+    /**
+     * Dispara desde el jugador en la dirección que mira:
+     * si la celda de enfrente tiene hielo lo rompe, si no coloca un rayo nuevo.
+     */
+    public IceRayResult fire(Player player) {
+        return shoot(player.getPosition(), player.getDirection(), true);
+    }
+
+    /**
+     * Igual que un disparo desde from hacia dir, pero sin tocar tablero, fogatas ni frutas
+     */
+    public IceRayResult preview(Position from, Direction dir) {
+        return shoot(from, dir, false);
+    }
+
+    private IceRayResult shoot(Position from, Direction dir, boolean apply) {
+        if (dir == null || dir == Direction.NONE) return IceRayResult.none();
+
+        Position next = from.translated(dir.getDRow(), dir.getDCol());
+        if (!board.isInside(next)) return IceRayResult.none();
+
+        CellType firstCell = board.getCellType(next);
+        if (firstCell == CellType.PLAYER_ICE || firstCell == CellType.ICE_BLOCK) {
+            return breakRay(next, dir, apply);
+        }
+        return createRay(next, dir, apply);
+    }
+
+    /**
+     * Coloca hielo desde start hasta el primer enemigo u obstáculo.
+     * Las fogatas se apagan y las baldosas calientes se saltan sin congelarse.
+     */
+    private IceRayResult createRay(Position start, Direction dir, boolean apply) {
+        nextStamp();
+        markEnemies();
+
+        int dr = dir.getDRow();
+        int dc = dir.getDCol();
+        int r = start.getRow();
+        int c = start.getCol();
+        int length = 0;
+        int changed = 0;
+        int campfiresOut = 0;
+        boolean enemyInLine = false;
+
+        while (inside(r, c)) {
+            int idx = board.cellIndex(r, c);
+            if (enemyMark[idx] == stamp) {
+                enemyInLine = true;
+                break;
+            }
+
+            if (campfireAt[idx] != 0) {
+                campfiresOut += putOut(campfireAt[idx] - 1, apply);
+            } else {
+                CellType cellType = board.getCellType(idx);
+
+                if (cellType != CellType.HOT_TILE) {
+                    if (!cellType.isTraversable()) break;
+
+                    if (cellType == CellType.FLOOR || cellType == CellType.PILE_SNOW) {
+                        if (apply) board.setCellType(new Position(r, c), CellType.PLAYER_ICE);
+                        changed++;
+                    }
+                    rayMark[idx] = stamp;
+                }
+            }
+
+            length++;
+            r += dr;
+            c += dc;
+        }
+
+        int frozen = 0;
+        EntityStore<Fruit> fruits = level.getFruitManager().getStore();
+        for (int i = 0; i < fruits.size(); i++) {
+            if (rayMark[board.cellIndex(fruits.row(i), fruits.col(i))] != stamp) continue;
+            if (fruits.hasFlag(i, EntityStore.COLLECTED | EntityStore.FROZEN)) continue;
+
+            if (apply) fruits.get(i).freeze();
+            frozen++;
+        }
+
+        return new IceRayResult(IceRayResult.Kind.CREATE, start, dir, length, changed, frozen,
+                campfiresOut, enemyInLine);
+    }
+
+    /**
+     * Rompe el hielo desde start mientras haya hielo (o fogatas, que se apagan).
+     * Se descongelan las frutas que estaban sobre el tramo continuo de hielo del jugador.
+     */
+    private IceRayResult breakRay(Position start, Direction dir, boolean apply) {
+        nextStamp();
+        markEnemies();
+
+        int dr = dir.getDRow();
+        int dc = dir.getDCol();
+
+        // Tramo de PLAYER_ICE desde el inicio, antes de romper nada
+        int r = start.getRow();
+        int c = start.getCol();
+        while (inside(r, c) && board.getCellType(board.cellIndex(r, c)) == CellType.PLAYER_ICE) {
+            rayMark[board.cellIndex(r, c)] = stamp;
+            r += dr;
+            c += dc;
+        }
+
+        r = start.getRow();
+        c = start.getCol();
+        int length = 0;
+        int changed = 0;
+        int campfiresOut = 0;
+
+        while (inside(r, c)) {
+            int idx = board.cellIndex(r, c);
+
+            if (campfireAt[idx] != 0) {
+                campfiresOut += putOut(campfireAt[idx] - 1, apply);
+            } else {
+                CellType cell = board.getCellType(idx);
+                if (cell != CellType.PLAYER_ICE && cell != CellType.ICE_BLOCK) break;
+
+                if (apply) board.setCellType(new Position(r, c), CellType.FLOOR);
+                changed++;
+            }
+
+            length++;
+            r += dr;
+            c += dc;
+        }
+
+        // ¿Queda un enemigo justo detrás del hielo que se rompe?
+        boolean enemyInLine = false;
+        for (int k = 0; k < ENEMY_LOOKAHEAD && inside(r, c); k++) {
+            if (enemyMark[board.cellIndex(r, c)] == stamp) {
+                enemyInLine = true;
+                break;
+            }
+            r += dr;
+            c += dc;
+        }
+
+        int unfrozen = 0;
+        EntityStore<Fruit> fruits = level.getFruitManager().getStore();
+        for (int i = 0; i < fruits.size(); i++) {
+            if (rayMark[board.cellIndex(fruits.row(i), fruits.col(i))] != stamp) continue;
+            if (!fruits.hasFlag(i, EntityStore.FROZEN)) continue;
+
+            if (apply) fruits.get(i).unfreeze();
+            unfrozen++;
+        }
+
+        return new IceRayResult(IceRayResult.Kind.BREAK, start, dir, length, changed, unfrozen,
+                campfiresOut, enemyInLine);
+    }
+
+    // Apaga la fogata si está encendida; retorna 1 si la apagó (o la apagaría)
+    private int putOut(int campfire, boolean apply) {
+        Campfire cf = level.getCampfires().get(campfire);
+        if (!cf.isLit()) return 0;
+        if (apply) cf.extinguish(board);
+        return 1;
+    }
+
+    private void markEnemies() {
+        EntityStore<Enemy> enemies = level.getEnemyStore();
+        for (int i = 0; i < enemies.size(); i++) {
+            enemyMark[board.cellIndex(enemies.row(i), enemies.col(i))] = stamp;
+        }
+    }
+
+    private void nextStamp() {
+        if (++stamp == Integer.MAX_VALUE) {
+            Arrays.fill(enemyMark, 0);
+            Arrays.fill(rayMark, 0);
+            stamp = 1;
+        }
+    }
+
+    private boolean inside(int r, int c) {
+        return r >= 0 && r < board.getRows() && c >= 0 && c < board.getCols();
+    }
+}
@@ -0,0 +1,74 @@
+package domain.game;
+
+import domain.model.Position;
+import domain.utils.Direction;
+
+/**
+ * Resultado de disparar (o simular) un rayo de hielo: qué tramo de celdas recorrió,
+ * cuántas cambiaron de tipo, cuántas frutas se congelaron o descongelaron
+ * y cuántas fogatas se apagaron.
+ */
+public final class IceRayResult {
+
+    public enum Kind {
+        NONE,    // No se hizo nada (sin dirección o mirando fuera del tablero)
+        CREATE,  // Se colocó hielo
+        BREAK    // Se rompió hielo
+    }
+
+    private static final IceRayResult NONE = new IceRayResult(Kind.NONE, null, Direction.NONE, 0, 0, 0, 0, false);
+
+    private final Kind kind;
+    private final Position start;
+    private final Direction direction;
+    private final int length;
+    private final int changedCells;
+    private final int affectedFruits;
+    private final int campfiresPutOut;
+    private final boolean enemyInLine;
+
+    IceRayResult(Kind kind, Position start, Direction direction, int length, int changedCells, int affectedFruits,
+                 int campfiresPutOut, boolean enemyInLine) {
+        this.kind = kind;
+        this.start = start;
+        this.direction = direction;
+        this.length = length;
+        this.changedCells = changedCells;
+        this.affectedFruits = affectedFruits;
+        this.campfiresPutOut = campfiresPutOut;
+        this.enemyInLine = enemyInLine;
+    }
+
+    public static IceRayResult none() { return NONE; }
+
+    public Kind getKind() { return kind; }
+
+    /**
+     * Primera celda del tramo (la vecina del jugador)
+     */
+    public Position getStart() { return start; }
+    public Direction getDirection() { return direction; }
+
+    /**
+     * Cantidad de celdas recorridas por el rayo desde start en la dirección del rayo
+     */
+    public int getLength() { return length; }
+
+    /**
+     * Última celda del tramo, o null si el rayo no recorrió ninguna
+     */
+    public Position getEnd() {
+        if (length == 0) return null;
+        return start.translated(direction.getDRow() * (length - 1), direction.getDCol() * (length - 1));
+    }
+
+    public int getChangedCells() { return changedCells; }
+    public int getAffectedFruits() { return affectedFruits; }
+    public int getCampfiresPutOut() { return campfiresPutOut; }
+
+    /**
+     * CREATE: el rayo se detuvo contra un enemigo.
+     * BREAK: hay un enemigo a pocas casillas detrás del hielo roto.
+     */
+    public boolean isEnemyInLine() { return enemyInLine; }
+}
@@ -0,0 +1,83 @@
+package domain.game;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cola de eventos de entrada sin locks, de un productor (el hilo de Swing) y un consumidor
+ * (el hilo del juego). Es un anillo de tamaño fijo: el productor escribe el evento y recién
+ * después publica el nuevo final; el consumidor lee hasta ese final y publica su avance.
+ * Cada evento lleva el System.nanoTime() del momento en que llegó.
+ * Si la cola está llena el evento se descarta (a 60 ticks por segundo no debería pasar).
+ */
+public final class InputQueue {
+
+    public static final int KEY_PRESSED = 0;
+    public static final int KEY_RELEASED = 1;
+    public static final int MOUSE_CLICKED = 2;
+
+    /**
+     * Recibe los eventos al vaciar la cola
+     */
+    @FunctionalInterface
+    public interface Consumer {
+        void accept(int kind, int a, int b, long nanos);
+    }
+
+    private final int mask;
+    private final int[] kinds;
+    private final int[] as;
+    private final int[] bs;
+    private final long[] stamps;
+
+    // head: próximo a leer (solo lo escribe el consumidor); tail: próximo a escribir (solo el productor)
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    public InputQueue(int capacity) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("La capacidad debe ser potencia de dos: " + capacity);
+        }
+        this.mask = capacity - 1;
+        this.kinds = new int[capacity];
+        this.as = new int[capacity];
+        this.bs = new int[capacity];
+        this.stamps = new long[capacity];
+    }
+
+    /**
+     * Encola un evento; solo lo llama el hilo productor. Retorna false si la cola estaba llena.
+     */
+    public boolean offer(int kind, int a, int b, long nanos) {
+        long t = tail.get();
+        if (t - head.get() > mask) {
+            dropped.incrementAndGet();
+            return false;
+        }
+
+        int i = (int) t & mask;
+        kinds[i] = kind;
+        as[i] = a;
+        bs[i] = b;
+        stamps[i] = nanos;
+        tail.lazySet(t + 1); // Publica el evento ya escrito
+        return true;
+    }
+
+    /**
+     * Entrega al consumidor todos los eventos publicados hasta ahora; solo lo llama el hilo consumidor.
+     * Retorna cuántos entregó.
+     */
+    public int drain(Consumer consumer) {
+        long h = head.get();
+        long t = tail.get();
+        for (long k = h; k < t; k++) {
+            int i = (int) k & mask;
+            consumer.accept(kinds[i], as[i], bs[i], stamps[i]);
+        }
+        head.lazySet(t); // Libera los lugares para el productor
+        return (int) (t - h);
+    }
+
+    public long getDropped() { return dropped.get(); }
+}
@@ -1,47 +1,119 @@
 package domain.game;
 
+import domain.behavior.EnemyIntent;
+import domain.behavior.MovementBehavior;
 import domain.model.*;
 import domain.entities.*;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.stream.IntStream;
 import domain.utils.Direction;
 
 
 /**
  * Representa un nivel del juego
  */
-public class Level {
+public final class Level {
     private final Board board;
     private final List<Player> players;
     private final List<Enemy> enemies;
+    // Sal de hash distinta a la del almacén de frutas
+    private final EntityStore<Enemy> enemyStore = new EntityStore<>(1);
     private final FruitManager fruitManager;
     private final List<Campfire> campfires;
     private final List<Class<? extends Fruit>> fruitPhases;
     private int currentPhaseIndex = 0;
     private final Map<Player, Direction> lastInputs = new HashMap<>();
     private int playerTickCounter = 0;
-    private static final int TICKS_PER_PLAYER_MOVE = 8;
+    private static final long PLAYER_MOVE_MILLIS = 133;
+
+    // Los enemigos se despiertan solo en el tick que pidió su MovementBehavior
+    private final TimingWheel enemyWheel = new TimingWheel();
+    private int[] dueEnemies;
+    private EnemyIntent[] dueIntents = new EnemyIntent[0];
+
+    // Memoria de trabajo reutilizable para las búsquedas sobre el tablero (BFS de enemigos e IA)
+    private final ScratchArena scratch;
+
+    // Caminos más cortos ya calculados, hasta que cambie la transitabilidad del tablero
+    private final PathCache paths;
+
+    // Paredes más cercanas por celda, para las comprobaciones de visión del narval
+    private final LineOfSightIndex lineOfSight;
+
+    private final IceRayEngine iceRays;
+
+    // Ticks hasta el peligro más cercano por celda; lo comparten todas las IA del nivel
+    private final DangerMap dangerMap;
+
+    // Reparto de frutas entre los jugadores máquina, por distancia real
+    private final FruitTargetPlanner fruitTargets;
+
+    // Con pocos enemigos despiertos no vale la pena repartir la decisión entre hilos
+    private static final int PARALLEL_ENEMY_THRESHOLD = 64;
+    private boolean parallelEnemyUpdates = true;
 
 
     public Level (Board board, List<Player> players, List<Enemy> enemies, List<Fruit> fruits, List<Campfire> campfires,
                   List<Class<? extends Fruit>> fruitPhases) {
         this.board = board;
+        this.scratch = new ScratchArena(board);
+        this.paths = new PathCache(board, scratch);
+        this.lineOfSight = new LineOfSightIndex(board);
         this.players = players != null ? players : new ArrayList<>();
         this.enemies = enemies != null ? enemies : new ArrayList<>();
         List<Fruit> fruits1 = fruits != null ? fruits : new ArrayList<>();
         this.campfires = campfires != null ? campfires : new ArrayList<>();
-        this.fruitManager = new FruitManager(fruits1);
         this.fruitPhases  = fruitPhases != null ? fruitPhases : new ArrayList<>();
+        this.fruitManager = new FruitManager(fruits1, this.fruitPhases);
+        for (Enemy e : this.enemies) {
+            enemyStore.add(e);
+        }
         initFirstFruitPhase();
+        scheduleEnemies();
+        this.iceRays = new IceRayEngine(this);
+        this.dangerMap = new DangerMap(board);
+        dangerMap.update(this);
+        this.fruitTargets = new FruitTargetPlanner(board);
     }
 
     public Board getBoard() {return this.board;}
+    public ScratchArena getScratch() {return this.scratch;}
+    public PathCache getPaths() {return this.paths;}
+    public LineOfSightIndex getLineOfSight() {return this.lineOfSight;}
+    public IceRayEngine getIceRays() {return this.iceRays;}
+    public DangerMap getDangerMap() {return this.dangerMap;}
+    public FruitTargetPlanner getFruitTargets() {return this.fruitTargets;}
     public List<Player> getPlayers() {return this.players;}
     public List<Enemy> getEnemies() {return this.enemies;}
+    public EntityStore<Enemy> getEnemyStore() {return this.enemyStore;}
     public FruitManager getFruitManager() {return this.fruitManager;}
     public List<Campfire> getCampfires() { return this.campfires; }
+    public int getTick() { return board.getTick(); }
+
+    /**
+     * Hash de Zobrist del estado del nivel: celdas, casilla, dirección y banderas de frutas y enemigos,
+     * fase de frutas y jugadores (casilla, dirección, puntaje y si murieron). No incluye el tick.
+     * Tablero y almacenes lo mantienen al día en cada cambio; los jugadores son pocos y se suman acá.
+     */
+    public long getStateHash() {
+        long h = board.getHash() ^ fruitManager.getStore().getHash() ^ enemyStore.getHash()
+                ^ Zobrist.key(Zobrist.PHASE, currentPhaseIndex, 0);
+        for (int i = 0; i < players.size(); i++) {
+            Player p = players.get(i);
+            h ^= Zobrist.key(Zobrist.PLAYER_CELL, i, Zobrist.cell(p.getPosition().getRow(), p.getPosition().getCol()))
+                    ^ Zobrist.key(Zobrist.PLAYER_DIRECTION, i, p.getDirection().ordinal())
+                    ^ Zobrist.key(Zobrist.PLAYER_STATE, i, (p.getScore() << 1) | (p.isDead() ? 1 : 0));
+        }
+        return h;
+    }
+
+    /**
+     * Cada cuántos ticks avanza un jugador una casilla
+     */
+    public static int ticksPerPlayerMove() { return GameClock.ticks(PLAYER_MOVE_MILLIS); }
 
 
     private void initFirstFruitPhase() {
@@ -59,14 +131,17 @@ public class Level {
      * Mueve a los enemigos de acuerdo a su MovementBehavior
      */
     public void update(Map<Player, Direction> playersInputs) {
+        board.advanceTick();
+        lineOfSight.sync();
         updatePlayers(playersInputs);
         updateFruits();
-        CollisionDetector.checkPlayerFruit(players, fruitManager.getActiveFruits());
-        CollisionDetector.checkPlayerEnemy(players, enemies);
+        CollisionDetector.checkPlayerFruit(players, fruitManager.getStore());
+        CollisionDetector.checkPlayerEnemy(players, enemyStore);
         CollisionDetector.checkPlayerCampfire(players, campfires); // NUEVO
         updateFruitPhase();
         updateEnemies();
         updateCampfires();
+        dangerMap.update(this);
     }
 
     private void updateFruits() {
@@ -103,7 +178,7 @@ public class Level {
 
         // Control de velocidad del jugador
         playerTickCounter++;
-        if (playerTickCounter % TICKS_PER_PLAYER_MOVE != 0) {
+        if (playerTickCounter % ticksPerPlayerMove() != 0) {
             return;
         }
 
@@ -155,13 +230,70 @@ public class Level {
         }
     }
 
+    private void scheduleEnemies() {
+        dueEnemies = new int[enemies.size()];
+        for (int i = 0; i < enemies.size(); i++) {
+            MovementBehavior behavior = enemies.get(i).getMovementBehavior();
+            if (behavior != null) {
+                enemyWheel.schedule(i, getTick() + behavior.ticksUntilNextMove());
+            }
+        }
+    }
+
+    /**
+     * Dos fases: primero cada enemigo que vence decide contra el tablero del inicio del tick
+     * (en paralelo si son muchos), luego se aplican las intenciones en orden de id.
+     * Así el resultado no depende de la cantidad de hilos.
+     */
     private void updateEnemies() {
-        for (Enemy e: enemies) {
-            if (e.getMovementBehavior() != null) {
-                e.getMovementBehavior().move(this, e);
+        int due = enemyWheel.advanceTo(getTick(), dueEnemies);
+        if (due == 0) return;
+
+        if (dueIntents.length < due) {
+            dueIntents = new EnemyIntent[enemies.size()];
+        }
+
+        // Fase de decisión: solo lee el nivel
+        if (parallelEnemyUpdates && due >= PARALLEL_ENEMY_THRESHOLD) {
+            IntStream.range(0, due).parallel().forEach(this::decideEnemy);
+        } else {
+            for (int i = 0; i < due; i++) {
+                decideEnemy(i);
             }
         }
+
+        // Fase de commit: aplica en orden y vuelve a programar
+        for (int i = 0; i < due; i++) {
+            // Sin intención cuenta como quedarse quieto: el enemigo igual vuelve a la rueda
+            EnemyIntent intent = dueIntents[i] != null ? dueIntents[i] : EnemyIntent.stay();
+            dueIntents[i] = null;
+
+            int id = dueEnemies[i];
+            if (id >= enemies.size()) continue;
+            Enemy e = enemies.get(id);
+            MovementBehavior behavior = e.getMovementBehavior();
+            if (behavior == null) continue;
+
+            intent.apply(board, e);
+            enemyWheel.schedule(id, getTick() + Math.max(1, behavior.ticksUntilNextMove()));
+        }
     }
+
+    private void decideEnemy(int i) {
+        int id = dueEnemies[i];
+        if (id >= enemies.size()) return;
+
+        Enemy e = enemies.get(id);
+        MovementBehavior behavior = e.getMovementBehavior();
+        if (behavior == null) return;
+
+        dueIntents[i] = behavior.decide(this, e);
+    }
+
+    public void setParallelEnemyUpdates(boolean parallel) {
+        this.parallelEnemyUpdates = parallel;
+    }
+
     private void updateCampfires() {
         for (Campfire campfire : campfires) {
             campfire.update(this);
@@ -0,0 +1,230 @@
+package domain.game;
+
+import domain.entities.Player;
+import domain.utils.Direction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Búsqueda Monte Carlo en árbol (UCT) sobre el modelo rápido SimState.
+ * Cada iteración copia la raíz en un estado reutilizable, baja por el árbol,
+ * simula una partida corta (mitad pasos codiciosos hacia la fruta, mitad al azar)
+ * y propaga la recompensa: frutas recogidas (antes valen más) y castigo por morir.
+ *
+ * El árbol vive en arreglos paralelos que cada hilo reutiliza entre decisiones,
+ * así no se crean objetos por nodo ni por simulación. Con parallel se arman varios
+ * árboles independientes en el pool común y se suman las visitas de la raíz.
+ */
+public class MctsPlanner {
+
+    private static final double EXPLORATION = 1.4;
+    private static final double DISCOUNT = 0.95;
+    private static final double DEATH_PENALTY = -3.0;
+    private static final int MAX_NODES = 1 << 15;
+
+    private final long budgetNanos;
+    private final int maxIterations;
+    private final int rolloutDepth;
+    private final boolean parallel;
+    private final int workers;
+
+    // Árbol y estado de simulación propios de cada hilo, reutilizados entre decisiones
+    private final ThreadLocal<Search> searches = ThreadLocal.withInitial(Search::new);
+    private final SplittableRandom seeds = new SplittableRandom();
+
+    public MctsPlanner() {
+        this(3_000_000L, 20_000, 24, Runtime.getRuntime().availableProcessors() > 2);
+    }
+
+    /**
+     * @param budgetNanos tiempo máximo por decisión
+     * @param maxIterations tope de simulaciones por decisión (entre todos los hilos)
+     * @param rolloutDepth pasos simulados después de salir del árbol
+     * @param parallel si se reparten las simulaciones entre varios núcleos
+     */
+    public MctsPlanner(long budgetNanos, int maxIterations, int rolloutDepth, boolean parallel) {
+        this.budgetNanos = budgetNanos;
+        this.maxIterations = maxIterations;
+        this.rolloutDepth = rolloutDepth;
+        this.parallel = parallel;
+        this.workers = Math.max(1, Math.min(4, ForkJoinPool.getCommonPoolParallelism()));
+    }
+
+    public Direction plan(Level level, Player me) {
+        SimState root = SimState.capture(level, me);
+        if (root.isTerminal()) return Direction.NONE;
+
+        long deadline = System.nanoTime() + budgetNanos;
+        long[] visits = new long[SimState.ACTIONS];
+        double[] totals = new double[SimState.ACTIONS];
+
+        if (parallel && workers > 1) {
+            int perWorker = Math.max(1, maxIterations / workers);
+            List<CompletableFuture<Void>> jobs = new ArrayList<>(workers);
+            for (int w = 0; w < workers; w++) {
+                long seed = seeds.nextLong();
+                jobs.add(CompletableFuture.runAsync(() -> {
+                    Search s = searches.get();
+                    s.run(root, deadline, perWorker, seed);
+                    // Un mismo hilo puede tomar otro árbol después: se acumula antes de soltarlo
+                    synchronized (visits) {
+                        s.addRootStats(visits, totals);
+                    }
+                }, ForkJoinPool.commonPool()));
+            }
+            for (CompletableFuture<Void> job : jobs) {
+                job.join();
+            }
+        } else {
+            Search s = searches.get();
+            s.run(root, deadline, maxIterations, seeds.nextLong());
+            s.addRootStats(visits, totals);
+        }
+
+        int best = Direction.NONE.ordinal();
+        for (int a = 0; a < SimState.ACTIONS; a++) {
+            if (!root.canMove(a) || visits[a] == 0) continue;
+            if (visits[best] == 0 || visits[a] > visits[best]
+                    || (visits[a] == visits[best] && totals[a] / visits[a] > totals[best] / visits[best])) {
+                best = a;
+            }
+        }
+        return SimState.toDirection(best);
+    }
+
+    /**
+     * Árbol de búsqueda de un hilo. Los hijos de un nodo se guardan juntos:
+     * childBase[n] .. childBase[n] + ACTIONS - 1, uno por acción.
+     */
+    private final class Search {
+        private final int[] childBase = new int[MAX_NODES];
+        private final int[] parent = new int[MAX_NODES];
+        private final int[] action = new int[MAX_NODES];
+        private final int[] visits = new int[MAX_NODES];
+        private final double[] total = new double[MAX_NODES];
+        private int size;
+
+        private final SimState scratch = new SimState();
+        private SplittableRandom rng;
+
+        void run(SimState root, long deadline, int iterations, long seed) {
+            rng = new SplittableRandom(seed);
+            size = 0;
+            newNode(-1, Direction.NONE.ordinal());
+
+            for (int it = 0; it < iterations; it++) {
+                // Mirar el reloj cada tanto, no en cada iteración
+                if ((it & 31) == 0 && System.nanoTime() > deadline) break;
+                iterate(root);
+            }
+        }
+
+        void addRootStats(long[] outVisits, double[] outTotals) {
+            int base = childBase[0];
+            if (base < 0) return;
+            for (int a = 0; a < SimState.ACTIONS; a++) {
+                outVisits[a] += visits[base + a];
+                outTotals[a] += total[base + a];
+            }
+        }
+
+        private int newNode(int parentNode, int act) {
+            int n = size++;
+            childBase[n] = -1;
+            parent[n] = parentNode;
+            action[n] = act;
+            visits[n] = 0;
+            total[n] = 0;
+            return n;
+        }
+
+        private void iterate(SimState root) {
+            SimState s = scratch;
+            s.copyFrom(root);
+
+            double reward = 0;
+            double weight = 1;
+            int collected = 0;
+
+            // Selección y expansión
+            int node = 0;
+            while (!s.isTerminal()) {
+                if (childBase[node] < 0) {
+                    // Una hoja se expande recién en su segunda visita
+                    if (node != 0 && visits[node] == 0) break;
+                    if (size + SimState.ACTIONS > MAX_NODES) break;
+                    childBase[node] = size;
+                    for (int a = 0; a < SimState.ACTIONS; a++) newNode(node, a);
+                }
+                node = select(node, s);
+                s.step(action[node]);
+
+                reward += weight * (s.getCollected() - collected);
+                collected = s.getCollected();
+                weight *= DISCOUNT;
+            }
+
+            // Simulación
+            for (int d = 0; d < rolloutDepth && !s.isTerminal(); d++) {
+                s.step(rolloutAction(s));
+                reward += weight * (s.getCollected() - collected);
+                collected = s.getCollected();
+                weight *= DISCOUNT;
+            }
+            if (s.isDead()) {
+                reward += weight * DEATH_PENALTY;
+            } else if (s.getRemaining() > 0) {
+                // Pequeño premio por terminar cerca de una fruta
+                reward += weight * 0.5 / (1 + s.distanceToNearestFruit());
+            }
+
+            // Propagación
+            while (node >= 0) {
+                visits[node]++;
+                total[node] += reward;
+                node = parent[node];
+            }
+        }
+
+        private int select(int node, SimState s) {
+            int base = childBase[node];
+            double logN = Math.log(Math.max(1, visits[node]));
+            int best = -1;
+            double bestScore = Double.NEGATIVE_INFINITY;
+
+            for (int a = 0; a < SimState.ACTIONS; a++) {
+                if (!s.canMove(a)) continue;
+                int c = base + a;
+                if (visits[c] == 0) {
+                    // Prueba primero las acciones sin visitar, en orden aleatorio
+                    double score = 1e9 + rng.nextDouble();
+                    if (score > bestScore) {
+                        bestScore = score;
+                        best = c;
+                    }
+                    continue;
+                }
+                double score = total[c] / visits[c] + EXPLORATION * Math.sqrt(logN / visits[c]);
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = c;
+                }
+            }
+            return best >= 0 ? best : base + Direction.NONE.ordinal();
+        }
+
+        private int rolloutAction(SimState s) {
+            if (rng.nextBoolean()) return s.greedyAction();
+
+            int a = rng.nextInt(SimState.ACTIONS);
+            for (int k = 0; k < SimState.ACTIONS && !s.canMove(a); k++) {
+                a = (a + 1) % SimState.ACTIONS;
+            }
+            return a;
+        }
+    }
+}
@@ -1,12 +1,11 @@
 package domain.game;
 
 import presentation.GamePanel;
+import presentation.ImageRegistry;
 import presentation.MenuState;
 
-import javax.swing.*;
 import java.awt.*;
 import java.awt.event.KeyEvent;
-import java.util.Objects;
 
 /**
  * Maneja el estado de pausado cuando el usuario oprima la tecla 'P' o ESC
@@ -31,7 +30,7 @@ public class PauseState implements GameState {
 
     private void loadAssets() {
         try {
-            pauseImage = new ImageIcon(Objects.requireNonNull(getClass().getResource("/pause-state.png"))).getImage();
+            pauseImage = ImageRegistry.get("/pause-state.png");
         } catch (Exception e) {
             System.err.println("Error cargando imagen de victoria: " + e.getMessage());
         }
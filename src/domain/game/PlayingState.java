@@ -3,24 +3,27 @@ package domain.game;
 import domain.entities.*;
 import domain.model.*;
 import domain.utils.Direction;
+import presentation.EntityRenderers;
 import presentation.GamePanel;
+import presentation.HudLayer;
+import presentation.Sprite;
 
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.KeyEvent;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import static domain.game.CollisionDetector.sameCell;
-
 public class PlayingState implements GameState {
 
     private final Game game;
     private final Level level;
 
     private int timerTicks = 0;
-    private static final int TIME_LIMIT = 10800;
+    private static final long TIME_LIMIT_MILLIS = 180_000;
     private boolean timeUp = false;
 
     private final int currentLevelNumber;
@@ -44,15 +47,27 @@ public class PlayingState implements GameState {
     private static final Sprite PILE_SNOW_SPRITE = new Sprite("/pile-of-snow.jpg");
     private static final Sprite IGLOO_SPRITE = new Sprite("/igloo.jpg");
     private static final Sprite HOT_TILE_SPRITE = new Sprite("/hot-tile.png");
-    private static final Sprite CAMPFIRE_ON_SPRITE = new Sprite("/campfire-on.png");
-    private static final Sprite CAMPFIRE_OFF_SPRITE = new Sprite("/campfire-off.png");
-
-    private static final Sprite CACTUS_SAFE_SPRITE = new Sprite("/cactus-safe.png");
-    private static final Sprite CACTUS_DANGEROUS_SPRITE = new Sprite("/cactus-not-safe.png");
 
     private Direction p1Dir = Direction.NONE;
     private Direction p2Dir = Direction.NONE;
 
+    // Fotos del nivel que publica el hilo del juego y lee el que dibuja
+    private final TripleBuffer<FrameSnapshot> frames = new TripleBuffer<>(FrameSnapshot::new);
+
+    // Lo último que se dibujó (solo lo usa quien dibuja), para redibujar solo lo que cambió
+    private static final Color BACKGROUND = new Color(240, 248, 255);
+    private static final Color FROZEN_TINT = new Color(100, 150, 255, 100);
+    private final HudLayer hud = new HudLayer();
+    private static final int HUD_ROWS = 2;
+    private CellType[] drawnCells;
+    private boolean[] dirty;
+    private int[] drawnEntityCells = new int[0];
+    private int drawnEntityCount;
+    private int drawnPlayers;
+    private int drawnScoreP1;
+    private int drawnScoreP2;
+    private int drawnSeconds;
+
     public PlayingState(Game game, int levelNumber) {
         this(game, levelNumber, GameMode.PLAYER, null, null, Flavour.VANILLA, Flavour.VANILLA);
     }
@@ -79,6 +94,7 @@ public class PlayingState implements GameState {
         this.aiP2 = (p2AI != null) ? new AIController(p2AI) : null;
 
         applyFlavoursToPlayers();
+        publishFrame();
     }
 
     public PlayingState(Game game, Level customLevel, GameMode mode, AIProfile p1AI, AIProfile p2AI, Flavour flavourP1, Flavour flavourP2) {
@@ -99,6 +115,7 @@ public class PlayingState implements GameState {
         this.aiP2 = (p2AI != null) ? new AIController(p2AI) : null;
 
         applyFlavoursToPlayers();
+        publishFrame();
     }
 
     public PlayingState(Game game, Level customLevel) {
@@ -117,11 +134,22 @@ public class PlayingState implements GameState {
 
     @Override
     public void update() {
+        tick();
+        publishFrame();
+    }
+
+    private void publishFrame() {
+        int remainingTicks = GameClock.ticks(TIME_LIMIT_MILLIS) - timerTicks;
+        frames.back().capture(level, GameClock.seconds(remainingTicks), timeUp);
+        frames.publish();
+    }
+
+    private void tick() {
         if (timeUp) return;
 
         timerTicks++;
 
-        if (timerTicks >= TIME_LIMIT) {
+        if (timerTicks >= GameClock.ticks(TIME_LIMIT_MILLIS)) {
             timeUp = true;
             handleTimeUp();
             return;
@@ -139,7 +167,7 @@ public class PlayingState implements GameState {
             Player p1 = players.get(0);
 
             if (mode == GameMode.MVM) {
-                inputs.put(p1, aiP1 != null ? aiP1.decide(level, p1) : Direction.NONE);
+                inputs.put(p1, aiP1 != null ? applyAIAction(aiP1.decideAction(level, p1), p1) : Direction.NONE);
             } else {
                 inputs.put(p1, p1Dir);
             }
@@ -149,7 +177,7 @@ public class PlayingState implements GameState {
             Player p2 = players.get(1);
 
             if (mode == GameMode.MVM || mode == GameMode.PVM) {
-                inputs.put(p2, aiP2 != null ? aiP2.decide(level, p2) : Direction.NONE);
+                inputs.put(p2, aiP2 != null ? applyAIAction(aiP2.decideAction(level, p2), p2) : Direction.NONE);
             } else {
                 inputs.put(p2, p2Dir);
             }
@@ -203,228 +231,147 @@ public class PlayingState implements GameState {
         }).start();
     }
 
+    /**
+     * Dibuja la última foto publicada; no lee el nivel, que puede estar actualizándose en paralelo
+     */
     @Override
     public void render(Graphics2D g) {
-        Board board = level.getBoard();
-        int tile = GamePanel.TILE_SIZE;
+        FrameSnapshot frame = frames.latest();
+        if (frame == null) return;
 
-        g.setColor(new Color(240, 248, 255));
-        g.fillRect(0, 0, board.getCols() * tile, board.getRows() * tile);
-
-        for (int r = 0; r < board.getRows(); r++) {
-            for (int c = 0; c < board.getCols(); c++) {
-                Position p = new Position(r, c);
-                CellType cell = board.getCellType(p);
-
-                int x = c * tile;
-                int y = r * tile;
-
-                switch (cell) {
-                    case METALLIC_WALL -> WALL_SPRITE.draw(g, x, y, tile, tile);
-                    case RED_WALL -> RED_WALL_SPRITE.draw(g, x, y, tile, tile);
-                    case YELLOW_WALL -> YELLOW_WALL_SPRITE.draw(g, x, y, tile, tile);
-                    case ICE_BLOCK -> ICE_SPRITE.draw(g, x, y, tile, tile);
-                    case PILE_SNOW -> PILE_SNOW_SPRITE.draw(g, x, y, tile, tile);
-                    case IGLOO_AREA -> IGLOO_SPRITE.draw(g, x, y, tile, tile);
-                    case HOT_TILE -> HOT_TILE_SPRITE.draw(g, x, y, tile, tile);
-                    case PLAYER_ICE -> PLAYER_ICE_SPRITE.draw(g, x, y, tile, tile);
-                    default -> FLOOR_SPRITE.draw(g, x, y, tile, tile);
-                }
-            }
+        int tile = GamePanel.TILE_SIZE;
+        for (int r = 0; r < frame.getRows(); r++) {
+            for (int c = 0; c < frame.getCols(); c++) drawCell(g, frame, r, c, tile);
         }
+        for (int i = 0; i < frame.getEntityCount(); i++) drawEntity(g, frame, i, tile);
+        drawHud(g, frame);
 
-        for (Campfire campfire : level.getCampfires()) {
-            Position p = campfire.getPosition();
-            if (level.getBoard().getCellType(p) == CellType.PLAYER_ICE) continue;
-
-            int x = p.getCol() * tile;
-            int y = p.getRow() * tile;
+        remember(frame);
+    }
 
-            if (campfire.isLit()) CAMPFIRE_ON_SPRITE.draw(g, x, y, tile, tile);
-            else CAMPFIRE_OFF_SPRITE.draw(g, x, y, tile, tile);
+    /**
+     * Redibuja sobre el frame anterior solo las casillas que cambiaron: celdas del tablero,
+     * casillas con entidades (antes o ahora) y la franja del HUD si cambió o algo la pisó.
+     * Con el cartel de tiempo agotado, o sin un frame anterior, pide redibujar todo.
+     */
+    @Override
+    public List<Rectangle> renderDirty(Graphics2D g) {
+        FrameSnapshot frame = frames.latest();
+        if (frame == null || frame.isTimeUp() || drawnCells == null
+                || drawnCells.length != frame.getRows() * frame.getCols()) {
+            return null;
         }
 
-        for (Fruit f : level.getFruitManager().getActiveFruits()) {
-            if (!f.isCollected()) {
-                int x = f.getPosition().getCol() * tile;
-                int y = f.getPosition().getRow() * tile;
+        int rows = frame.getRows();
+        int cols = frame.getCols();
+        Arrays.fill(dirty, false);
 
-                if (f instanceof Cactus cactus) {
-                    Sprite cactusSprite = cactus.isDangerous() ? CACTUS_DANGEROUS_SPRITE : CACTUS_SAFE_SPRITE;
-                    cactusSprite.draw(g, x, y, tile, tile);
-                } else {
-                    f.render(g, tile);
-                }
-
-                if (f.isFrozen()) {
-                    g.setColor(new Color(100, 150, 255, 100));
-                    g.fillRect(x, y, tile, tile);
-                }
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                if (drawnCells[r * cols + c] != frame.cell(r, c)) dirty[r * cols + c] = true;
             }
         }
+        for (int k = 0; k < drawnEntityCount; k++) dirty[drawnEntityCells[k]] = true;
+        for (int i = 0; i < frame.getEntityCount(); i++) dirty[frame.row(i) * cols + frame.col(i)] = true;
 
-        List<Player> players = level.getPlayers();
-        for (Player p : players) p.render(g, tile);
-
-        for (Enemy e : level.getEnemies()) e.render(g, tile);
-
-        if (!players.isEmpty()) {
-            g.setFont(new Font("Arial", Font.BOLD, 18));
-
-            g.setColor(Color.WHITE);
-            g.drawString("P1: " + players.get(0).getScore(), 10, 25);
-
-            if (players.size() > 1) g.drawString("P2: " + players.get(1).getScore(), 10, 50);
-
-            int remainingTicks = TIME_LIMIT - timerTicks;
-            int minutes = remainingTicks / 3600;
-            int seconds = (remainingTicks % 3600) / 60;
-
-            String timeText = String.format("Time: %d:%02d", minutes, seconds);
-
-            if (remainingTicks < 600) g.setColor(Color.RED);
-            else if (remainingTicks < 1800) g.setColor(Color.YELLOW);
-            else g.setColor(Color.WHITE);
-
-            g.drawString(timeText, 200, 25);
+        boolean hud = frame.getPlayerCount() != drawnPlayers || frame.getScoreP1() != drawnScoreP1
+                || frame.getScoreP2() != drawnScoreP2 || frame.getRemainingSeconds() != drawnSeconds;
+        for (int k = 0; k < HUD_ROWS * cols && !hud; k++) hud = dirty[k];
+        if (hud) Arrays.fill(dirty, 0, HUD_ROWS * cols, true);
 
-            if (timeUp) {
-                g.setColor(new Color(0, 0, 0, 180));
-                g.fillRect(0, 0, board.getCols() * tile, board.getRows() * tile);
-
-                g.setColor(Color.RED);
-                g.setFont(new Font("Arial", Font.BOLD, 48));
-                String message = "TIME UP!";
-                FontMetrics fm = g.getFontMetrics();
-                int x = (board.getCols() * tile - fm.stringWidth(message)) / 2;
-                int y = (board.getRows() * tile) / 2;
-                g.drawString(message, x, y);
-
-                g.setFont(new Font("Arial", Font.PLAIN, 24));
-                String restart = "Restarting...";
-                fm = g.getFontMetrics();
-                x = (board.getCols() * tile - fm.stringWidth(restart)) / 2;
-                g.drawString(restart, x, y + 40);
+        int tile = GamePanel.TILE_SIZE;
+        List<Rectangle> regions = new ArrayList<>();
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                if (!dirty[r * cols + c]) continue;
+                drawCell(g, frame, r, c, tile);
+
+                // Casillas sucias seguidas de la fila, en un solo rectángulo
+                Rectangle last = regions.isEmpty() ? null : regions.get(regions.size() - 1);
+                if (last != null && last.y == r * tile && last.x + last.width == c * tile) last.width += tile;
+                else regions.add(new Rectangle(c * tile, r * tile, tile, tile));
             }
         }
-    }
-
-    private void placeOrBreakIce(int playerIndex) {
-        List<Player> players = level.getPlayers();
-        if (players.size() <= playerIndex) return;
-
-        Player p = players.get(playerIndex);
-        Direction dir = p.getDirection();
-        if (dir == null || dir == Direction.NONE) return;
-
-        Board board = level.getBoard();
-        Position start = p.getPosition();
-        Position next = start.translated(dir.getDRow(), dir.getDCol());
-        if (!board.isInside(next)) return;
-
-        CellType firstCell = board.getCellType(next);
-
-        if (firstCell == CellType.PLAYER_ICE || firstCell == CellType.ICE_BLOCK) {
-            unfreezeFruitsInRay(level.getFruitManager().getAllFruits(), next, dir, board);
-            breakIceRay(board, next, dir);
-            return;
+        for (int i = 0; i < frame.getEntityCount(); i++) {
+            if (dirty[frame.row(i) * cols + frame.col(i)]) drawEntity(g, frame, i, tile);
         }
+        if (hud) drawHud(g, frame);
 
-        createIceRay(level, start, dir);
+        remember(frame);
+        return regions;
     }
 
-    private Campfire getCampfireAt(Position pos) {
-        for (Campfire c : level.getCampfires()) {
-            if (sameCell(c.getPosition(), pos)) return c;
+    // Guarda lo que quedó dibujado para comparar en el próximo frame
+    private void remember(FrameSnapshot frame) {
+        int rows = frame.getRows();
+        int cols = frame.getCols();
+        if (drawnCells == null || drawnCells.length != rows * cols) {
+            drawnCells = new CellType[rows * cols];
+            dirty = new boolean[rows * cols];
+        }
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) drawnCells[r * cols + c] = frame.cell(r, c);
         }
-        return null;
-    }
-
-    private void createIceRay(Level level, Position from, Direction dir) {
-        Board board = level.getBoard();
-        List<Fruit> allFruits = level.getFruitManager().getAllFruits();
-        List<Enemy> enemies = level.getEnemies();
-
-        Position current = from.translated(dir.getDRow(), dir.getDCol());
-
-        while (board.isInside(current)) {
-            boolean enemyThere = false;
-
-            for (Enemy e : enemies) {
-                if (sameCell(e.getPosition(), current)) {
-                    enemyThere = true;
-                    break;
-                }
-            }
-            if (enemyThere) break;
-
-            Campfire cf = getCampfireAt(current);
-            if (cf != null) {
-                if (cf.isLit()) cf.extinguish(board);
-                current = current.translated(dir.getDRow(), dir.getDCol());
-                continue;
-            }
-
-            CellType cellType = board.getCellType(current);
-
-            if (cellType == CellType.HOT_TILE) {
-                current = current.translated(dir.getDRow(), dir.getDCol());
-                continue;
-            }
-
-            if (CollisionDetector.isBlocked(board, current)) break;
 
-            if (cellType == CellType.FLOOR || cellType == CellType.PILE_SNOW) {
-                board.setCellType(current, CellType.PLAYER_ICE);
-            }
+        if (drawnEntityCells.length < frame.getEntityCount()) drawnEntityCells = new int[frame.getEntityCount()];
+        drawnEntityCount = frame.getEntityCount();
+        for (int i = 0; i < drawnEntityCount; i++) drawnEntityCells[i] = frame.row(i) * cols + frame.col(i);
 
-            for (Fruit f : allFruits) {
-                if (!f.isCollected() && !f.isFrozen() && sameCell(f.getPosition(), current)) {
-                    f.freeze();
-                }
-            }
+        drawnPlayers = frame.getPlayerCount();
+        drawnScoreP1 = frame.getScoreP1();
+        drawnScoreP2 = frame.getScoreP2();
+        drawnSeconds = frame.getRemainingSeconds();
+    }
 
-            current = current.translated(dir.getDRow(), dir.getDCol());
+    private void drawCell(Graphics2D g, FrameSnapshot frame, int r, int c, int tile) {
+        int x = c * tile;
+        int y = r * tile;
+
+        g.setColor(BACKGROUND);
+        g.fillRect(x, y, tile, tile);
+
+        switch (frame.cell(r, c)) {
+            case METALLIC_WALL -> WALL_SPRITE.draw(g, x, y, tile, tile);
+            case RED_WALL -> RED_WALL_SPRITE.draw(g, x, y, tile, tile);
+            case YELLOW_WALL -> YELLOW_WALL_SPRITE.draw(g, x, y, tile, tile);
+            case ICE_BLOCK -> ICE_SPRITE.draw(g, x, y, tile, tile);
+            case PILE_SNOW -> PILE_SNOW_SPRITE.draw(g, x, y, tile, tile);
+            case IGLOO_AREA -> IGLOO_SPRITE.draw(g, x, y, tile, tile);
+            case HOT_TILE -> HOT_TILE_SPRITE.draw(g, x, y, tile, tile);
+            case PLAYER_ICE -> PLAYER_ICE_SPRITE.draw(g, x, y, tile, tile);
+            default -> FLOOR_SPRITE.draw(g, x, y, tile, tile);
         }
     }
 
-    private void breakIceRay(Board board, Position from, Direction dir) {
-        Position current = from;
+    private void drawEntity(Graphics2D g, FrameSnapshot frame, int i, int tile) {
+        EntityRenderers.render(g, frame, i, tile);
 
-        while (board.isInside(current)) {
-            Campfire cf = getCampfireAt(current);
-            if (cf != null) {
-                if (cf.isLit()) cf.extinguish(board);
-                current = current.translated(dir.getDRow(), dir.getDCol());
-                continue;
-            }
-
-            CellType cell = board.getCellType(current);
-
-            if (cell == CellType.PLAYER_ICE || cell == CellType.ICE_BLOCK) {
-                board.setCellType(current, CellType.FLOOR);
-                current = current.translated(dir.getDRow(), dir.getDCol());
-            } else {
-                break;
-            }
+        if (frame.hasFlag(i, FrameSnapshot.FROZEN)) {
+            g.setColor(FROZEN_TINT);
+            g.fillRect(frame.col(i) * tile, frame.row(i) * tile, tile, tile);
         }
     }
 
-    private void unfreezeFruitsInRay(List<Fruit> fruits, Position from, Direction dir, Board board) {
-        Position current = from;
+    private void drawHud(Graphics2D g, FrameSnapshot frame) {
+        hud.draw(g, frame, frame.getCols() * GamePanel.TILE_SIZE, frame.getRows() * GamePanel.TILE_SIZE);
+    }
 
-        while (board.isInside(current)) {
-            CellType cell = board.getCellType(current);
-            if (cell != CellType.PLAYER_ICE) break;
+    /**
+     * Si la IA decidió disparar, gira y dispara (sin moverse este tick); retorna la dirección de movimiento
+     */
+    private Direction applyAIAction(AIAction action, Player p) {
+        if (!action.isFire()) return action.getDirection();
 
-            for (Fruit f : fruits) {
-                if (f.isFrozen() && sameCell(f.getPosition(), current)) {
-                    f.unfreeze();
-                }
-            }
+        p.setDirection(action.getDirection());
+        level.getIceRays().fire(p);
+        return Direction.NONE;
+    }
 
-            current = current.translated(dir.getDRow(), dir.getDCol());
-        }
+    private void placeOrBreakIce(int playerIndex) {
+        List<Player> players = level.getPlayers();
+        if (players.size() <= playerIndex) return;
+
+        level.getIceRays().fire(players.get(playerIndex));
     }
 
     @Override
@@ -0,0 +1,77 @@
+package domain.game;
+
+import domain.model.Board;
+import domain.model.CellType;
+
+/**
+ * Copia liviana del tablero para simulaciones de la IA.
+ * Las celdas se guardan como bytes (ordinal de CellType) y se comparten entre copias
+ * hasta que alguna escribe: recién ahí esa copia duplica el arreglo (copy-on-write).
+ * Así clonar un estado de simulación no copia el tablero completo.
+ */
+public final class SimBoard {
+
+    private static final CellType[] TYPES = CellType.values();
+    private static final boolean[] WALKABLE = new boolean[TYPES.length];
+
+    static {
+        for (CellType t : TYPES) WALKABLE[t.ordinal()] = t.isTraversable();
+    }
+
+    private int rows;
+    private int cols;
+    private byte[] cells;
+    private boolean shared;
+
+    public SimBoard() {}
+
+    /**
+     * Toma una foto del tablero real
+     */
+    public static SimBoard snapshot(Board board) {
+        SimBoard sb = new SimBoard();
+        sb.rows = board.getRows();
+        sb.cols = board.getCols();
+        sb.cells = new byte[sb.rows * sb.cols];
+        for (int i = 0; i < sb.cells.length; i++) {
+            sb.cells[i] = (byte) board.getCellType(i).ordinal();
+        }
+        // La foto nunca se escribe: varias simulaciones (incluso en otros hilos) la comparten
+        sb.shared = true;
+        return sb;
+    }
+
+    /**
+     * Pasa a compartir las celdas de other; ninguna de las dos las modifica sin copiarlas antes
+     */
+    public void shareFrom(SimBoard other) {
+        this.rows = other.rows;
+        this.cols = other.cols;
+        this.cells = other.cells;
+        this.shared = true;
+        if (!other.shared) other.shared = true;
+    }
+
+    public int getRows() { return rows; }
+    public int getCols() { return cols; }
+
+    public boolean inside(int r, int c) {
+        return r >= 0 && r < rows && c >= 0 && c < cols;
+    }
+
+    public int index(int r, int c) { return r * cols + c; }
+
+    public CellType get(int r, int c) { return TYPES[cells[r * cols + c]]; }
+
+    public boolean isWalkable(int r, int c) {
+        return inside(r, c) && WALKABLE[cells[r * cols + c]];
+    }
+
+    public void set(int r, int c, CellType type) {
+        if (shared) {
+            cells = cells.clone();
+            shared = false;
+        }
+        cells[r * cols + c] = (byte) type.ordinal();
+    }
+}
@@ -0,0 +1,354 @@
+package domain.game;
+
+import domain.behavior.MovementBehavior;
+import domain.entities.*;
+import domain.model.CellType;
+import domain.utils.Direction;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Modelo rápido del nivel para que la IA simule jugadas hacia adelante.
+ * Todo el estado vive en arreglos de enteros, así copiarlo es barato y se puede
+ * reutilizar el mismo objeto en cada simulación (copyFrom) sin crear basura.
+ * Cada paso equivale a un movimiento del jugador (Level.ticksPerPlayerMove() ticks del nivel).
+ *
+ * Es una aproximación: los enemigos siguen versiones simplificadas de sus
+ * comportamientos (troll gira a la derecha, el narval patrulla y embiste al alinearse,
+ * el resto persigue al jugador) y las frutas se consideran quietas.
+ */
+public final class SimState {
+
+    // Acciones = ordinales de Direction (UP, DOWN, RIGHT, LEFT, NONE)
+    public static final int ACTIONS = 5;
+    private static final Direction[] DIRS = Direction.values();
+    private static final int[] DR = {-1, 1, 0, 0, 0};
+    private static final int[] DC = {0, 0, 1, -1, 0};
+    private static final int[] TURN_RIGHT = {2, 3, 1, 0, 4};
+    private static final int[] OPPOSITE = {1, 0, 3, 2, 4};
+
+    // Tipos de enemigo simulados
+    private static final int TROLL = 0;
+    private static final int CHASER = 1;
+    private static final int NARVAL = 2;
+
+    // Duraciones de juego de cada movimiento; se pasan a ticks con GameClock al capturar
+    private static final long TROLL_MOVE_MILLIS = 383;
+    private static final long MACETA_MOVE_MILLIS = 200;
+    private static final long SQUID_MOVE_MILLIS = 367;
+    private static final long NARVAL_PATROL_MILLIS = 333;
+    private static final long NARVAL_CHARGE_MILLIS = 100;
+    private static final int NARVAL_RANGE = 15;
+
+    final SimBoard board = new SimBoard();
+    int tick;
+
+    // Ticks por paso del jugador y por movimiento del narval, según el reloj al capturar
+    int stepTicks;
+    int narvalPatrolTicks;
+    int narvalChargeTicks;
+
+    int playerRow;
+    int playerCol;
+    boolean dead;
+    int collected;
+
+    int enemyCount;
+    int[] enemyRow = new int[0];
+    int[] enemyCol = new int[0];
+    int[] enemyDir = new int[0];
+    int[] enemyKind = new int[0];
+    int[] enemyPeriod = new int[0];
+    int[] enemyNext = new int[0];
+
+    int fruitCount;
+    int[] fruitRow = new int[0];
+    int[] fruitCol = new int[0];
+    long[] taken = new long[0];
+    int remaining;
+
+    /**
+     * Foto del nivel desde el punto de vista de un jugador.
+     * Solo entran las frutas activas sin recoger ni congelar.
+     */
+    public static SimState capture(Level level, Player me) {
+        SimState s = new SimState();
+        s.board.shareFrom(SimBoard.snapshot(level.getBoard()));
+        s.playerRow = me.getPosition().getRow();
+        s.playerCol = me.getPosition().getCol();
+        s.dead = me.isDead();
+        s.stepTicks = Level.ticksPerPlayerMove();
+        s.narvalPatrolTicks = GameClock.ticks(NARVAL_PATROL_MILLIS);
+        s.narvalChargeTicks = GameClock.ticks(NARVAL_CHARGE_MILLIS);
+
+        List<Enemy> enemies = level.getEnemies();
+        s.ensureEnemies(enemies.size());
+        for (Enemy e : enemies) {
+            int i = s.enemyCount++;
+            s.enemyRow[i] = e.getPosition().getRow();
+            s.enemyCol[i] = e.getPosition().getCol();
+            Direction d = e.getDirection();
+            s.enemyDir[i] = (d == null || d == Direction.NONE) ? Direction.DOWN.ordinal() : d.ordinal();
+
+            if (e instanceof Troll) {
+                s.enemyKind[i] = TROLL;
+                s.enemyPeriod[i] = GameClock.ticks(TROLL_MOVE_MILLIS);
+            } else if (e instanceof Narval) {
+                s.enemyKind[i] = NARVAL;
+                s.enemyPeriod[i] = s.narvalPatrolTicks;
+            } else {
+                s.enemyKind[i] = CHASER;
+                s.enemyPeriod[i] = GameClock.ticks((e instanceof Maceta) ? MACETA_MOVE_MILLIS : SQUID_MOVE_MILLIS);
+            }
+
+            MovementBehavior behavior = e.getMovementBehavior();
+            s.enemyNext[i] = behavior != null ? Math.max(1, behavior.ticksUntilNextMove()) : Integer.MAX_VALUE;
+        }
+
+        EntityStore<Fruit> fruits = level.getFruitManager().getStore();
+        s.ensureFruits(fruits.size());
+        for (int i = 0; i < fruits.size(); i++) {
+            if (!fruits.hasFlag(i, EntityStore.ACTIVE)) continue;
+            if (fruits.hasFlag(i, EntityStore.COLLECTED | EntityStore.FROZEN)) continue;
+
+            int f = s.fruitCount++;
+            s.fruitRow[f] = fruits.row(i);
+            s.fruitCol[f] = fruits.col(i);
+        }
+        s.remaining = s.fruitCount;
+        return s;
+    }
+
+    /**
+     * Copia el estado de otro sin crear arreglos nuevos (salvo que no alcance la capacidad).
+     * El tablero se comparte hasta que alguna simulación lo modifique.
+     */
+    public void copyFrom(SimState o) {
+        board.shareFrom(o.board);
+        tick = o.tick;
+        stepTicks = o.stepTicks;
+        narvalPatrolTicks = o.narvalPatrolTicks;
+        narvalChargeTicks = o.narvalChargeTicks;
+        playerRow = o.playerRow;
+        playerCol = o.playerCol;
+        dead = o.dead;
+        collected = o.collected;
+
+        ensureEnemies(o.enemyCount);
+        enemyCount = o.enemyCount;
+        System.arraycopy(o.enemyRow, 0, enemyRow, 0, enemyCount);
+        System.arraycopy(o.enemyCol, 0, enemyCol, 0, enemyCount);
+        System.arraycopy(o.enemyDir, 0, enemyDir, 0, enemyCount);
+        System.arraycopy(o.enemyKind, 0, enemyKind, 0, enemyCount);
+        System.arraycopy(o.enemyPeriod, 0, enemyPeriod, 0, enemyCount);
+        System.arraycopy(o.enemyNext, 0, enemyNext, 0, enemyCount);
+
+        ensureFruits(o.fruitCount);
+        fruitCount = o.fruitCount;
+        System.arraycopy(o.fruitRow, 0, fruitRow, 0, fruitCount);
+        System.arraycopy(o.fruitCol, 0, fruitCol, 0, fruitCount);
+        System.arraycopy(o.taken, 0, taken, 0, (fruitCount + 63) >>> 6);
+        remaining = o.remaining;
+    }
+
+    private void ensureEnemies(int n) {
+        if (enemyRow.length >= n) return;
+        enemyRow = Arrays.copyOf(enemyRow, n);
+        enemyCol = Arrays.copyOf(enemyCol, n);
+        enemyDir = Arrays.copyOf(enemyDir, n);
+        enemyKind = Arrays.copyOf(enemyKind, n);
+        enemyPeriod = Arrays.copyOf(enemyPeriod, n);
+        enemyNext = Arrays.copyOf(enemyNext, n);
+    }
+
+    private void ensureFruits(int n) {
+        if (fruitRow.length >= n) return;
+        fruitRow = Arrays.copyOf(fruitRow, n);
+        fruitCol = Arrays.copyOf(fruitCol, n);
+        taken = Arrays.copyOf(taken, (n + 63) >>> 6);
+    }
+
+    public boolean isTerminal() { return dead || remaining == 0; }
+    public boolean isDead() { return dead; }
+    public int getCollected() { return collected; }
+    public int getRemaining() { return remaining; }
+
+    public boolean canMove(int action) {
+        return action == Direction.NONE.ordinal()
+                || board.isWalkable(playerRow + DR[action], playerCol + DC[action]);
+    }
+
+    /**
+     * Avanza un paso: el jugador ejecuta la acción y luego se mueven los enemigos que vencen
+     */
+    public void step(int action) {
+        if (isTerminal()) return;
+
+        int nr = playerRow + DR[action];
+        int nc = playerCol + DC[action];
+        if (board.isWalkable(nr, nc)) {
+            playerRow = nr;
+            playerCol = nc;
+        }
+        checkPlayer();
+
+        int end = tick + stepTicks;
+        for (int i = 0; i < enemyCount && !dead; i++) {
+            while (enemyNext[i] <= end - tick && !dead) {
+                enemyNext[i] += moveEnemy(i);
+                checkPlayer();
+            }
+            enemyNext[i] -= stepTicks;
+        }
+        tick = end;
+    }
+
+    // Recoge la fruta de la celda o muere si hay un enemigo o una fogata encendida
+    private void checkPlayer() {
+        if (board.get(playerRow, playerCol) == CellType.CAMPFIRE_ON) {
+            dead = true;
+            return;
+        }
+        for (int i = 0; i < enemyCount; i++) {
+            if (enemyRow[i] == playerRow && enemyCol[i] == playerCol) {
+                dead = true;
+                return;
+            }
+        }
+        for (int f = 0; f < fruitCount; f++) {
+            if (fruitRow[f] != playerRow || fruitCol[f] != playerCol) continue;
+            if ((taken[f >>> 6] & (1L << f)) != 0) continue;
+
+            taken[f >>> 6] |= 1L << f;
+            collected++;
+            remaining--;
+        }
+    }
+
+    // Mueve al enemigo una casilla y retorna cuántos ticks faltan para su próximo movimiento
+    private int moveEnemy(int i) {
+        return switch (enemyKind[i]) {
+            case TROLL -> {
+                moveTroll(i);
+                yield enemyPeriod[i];
+            }
+            case NARVAL -> moveNarval(i);
+            default -> {
+                moveChaser(i);
+                yield enemyPeriod[i];
+            }
+        };
+    }
+
+    private void moveTroll(int i) {
+        int d = enemyDir[i];
+        for (int k = 0; k < 4; k++) {
+            if (tryEnemyStep(i, d)) return;
+            d = TURN_RIGHT[d];
+        }
+    }
+
+    private void moveChaser(int i) {
+        int best = -1;
+        int bestDist = Integer.MAX_VALUE;
+        for (int d = 0; d < 4; d++) {
+            int r = enemyRow[i] + DR[d];
+            int c = enemyCol[i] + DC[d];
+            if (!board.isWalkable(r, c)) continue;
+
+            int dist = Math.abs(r - playerRow) + Math.abs(c - playerCol);
+            if (dist < bestDist) {
+                bestDist = dist;
+                best = d;
+            }
+        }
+        if (best >= 0) tryEnemyStep(i, best);
+    }
+
+    // Patrulla en línea recta; si ve al jugador alineado embiste rompiendo hielo
+    private int moveNarval(int i) {
+        int r = enemyRow[i];
+        int c = enemyCol[i];
+        int charge = -1;
+        if (r == playerRow && Math.abs(c - playerCol) <= NARVAL_RANGE) {
+            charge = playerCol > c ? Direction.RIGHT.ordinal() : Direction.LEFT.ordinal();
+        } else if (c == playerCol && Math.abs(r - playerRow) <= NARVAL_RANGE) {
+            charge = playerRow > r ? Direction.DOWN.ordinal() : Direction.UP.ordinal();
+        }
+
+        if (charge >= 0) {
+            int nr = r + DR[charge];
+            int nc = c + DC[charge];
+            if (board.inside(nr, nc)) {
+                CellType t = board.get(nr, nc);
+                if (t == CellType.ICE_BLOCK || t == CellType.PLAYER_ICE) {
+                    board.set(nr, nc, CellType.FLOOR);
+                }
+            }
+            enemyDir[i] = charge;
+            if (tryEnemyStep(i, charge)) return narvalChargeTicks;
+            return narvalPatrolTicks;
+        }
+
+        int d = enemyDir[i];
+        if (!tryEnemyStep(i, d)) {
+            enemyDir[i] = OPPOSITE[d];
+        }
+        return narvalPatrolTicks;
+    }
+
+    private boolean tryEnemyStep(int i, int d) {
+        int r = enemyRow[i] + DR[d];
+        int c = enemyCol[i] + DC[d];
+        if (!board.isWalkable(r, c)) return false;
+
+        enemyRow[i] = r;
+        enemyCol[i] = c;
+        enemyDir[i] = d;
+        return true;
+    }
+
+    /**
+     * Distancia Manhattan a la fruta pendiente más cercana (0 si no queda ninguna)
+     */
+    public int distanceToNearestFruit() {
+        int best = 0;
+        boolean found = false;
+        for (int f = 0; f < fruitCount; f++) {
+            if ((taken[f >>> 6] & (1L << f)) != 0) continue;
+            int d = Math.abs(fruitRow[f] - playerRow) + Math.abs(fruitCol[f] - playerCol);
+            if (!found || d < best) {
+                best = d;
+                found = true;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Acción que acerca al jugador a la fruta pendiente más cercana (NONE si no hay)
+     */
+    public int greedyAction() {
+        int best = Direction.NONE.ordinal();
+        int bestDist = distanceToNearestFruit();
+        for (int a = 0; a < 4; a++) {
+            if (!canMove(a)) continue;
+            int r = playerRow + DR[a];
+            int c = playerCol + DC[a];
+
+            int d = Integer.MAX_VALUE;
+            for (int f = 0; f < fruitCount; f++) {
+                if ((taken[f >>> 6] & (1L << f)) != 0) continue;
+                d = Math.min(d, Math.abs(fruitRow[f] - r) + Math.abs(fruitCol[f] - c));
+            }
+            if (d < bestDist) {
+                bestDist = d;
+                best = a;
+            }
+        }
+        return best;
+    }
+
+    public static Direction toDirection(int action) { return DIRS[action]; }
+}
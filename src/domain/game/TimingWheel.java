@@ -0,0 +1,127 @@
+package domain.game;
+
+import java.util.Arrays;
+
+/**
+ * Rueda de tiempo jerárquica para despertar entidades en un tick concreto.
+ * Nivel 0: 64 ranuras de 1 tick. Nivel 1: 64 ranuras de 64 ticks.
+ * Lo que queda más lejos espera en una lista de desborde hasta acercarse.
+ * Las entidades se identifican con un id entero (su índice en la lista del nivel).
+ */
+public class TimingWheel {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int SPAN = SLOTS * SLOTS;
+
+    private final Bucket[] level0 = new Bucket[SLOTS];
+    private final Bucket[] level1 = new Bucket[SLOTS];
+    private final Bucket overflow = new Bucket();
+    private final Bucket scratch = new Bucket();
+
+    private int currentTick = 0;
+
+    public TimingWheel() {
+        for (int i = 0; i < SLOTS; i++) {
+            level0[i] = new Bucket();
+            level1[i] = new Bucket();
+        }
+    }
+
+    public int getCurrentTick() { return currentTick; }
+
+    /**
+     * Programa el id para el tick indicado. Si el tick ya pasó se programa para el siguiente.
+     */
+    public void schedule(int id, int dueTick) {
+        insert(id, Math.max(dueTick, currentTick + 1));
+    }
+
+    private void insert(int id, int dueTick) {
+        int delta = dueTick - currentTick;
+        if (delta < SLOTS) {
+            level0[dueTick & SLOT_MASK].add(id, dueTick);
+        } else if (delta < SPAN) {
+            level1[(dueTick >>> SLOT_BITS) & SLOT_MASK].add(id, dueTick);
+        } else {
+            overflow.add(id, dueTick);
+        }
+    }
+
+    /**
+     * Avanza la rueda hasta el tick dado y copia en out los ids que vencen en ese tick,
+     * ordenados de menor a mayor. Retorna cuántos ids se escribieron.
+     * El arreglo out debe tener espacio para todas las entidades programadas.
+     */
+    public int advanceTo(int tick, int[] out) {
+        int count = 0;
+        while (currentTick < tick) {
+            currentTick++;
+            if ((currentTick & SLOT_MASK) == 0) {
+                cascade();
+            }
+            count = level0[currentTick & SLOT_MASK].drainDue(currentTick, out, count);
+        }
+        Arrays.sort(out, 0, count);
+        return count;
+    }
+
+    // Baja al nivel 0 las entradas del nivel 1 (y del desborde) que ya están cerca
+    private void cascade() {
+        reinsertAll(level1[(currentTick >>> SLOT_BITS) & SLOT_MASK]);
+        if (overflow.size > 0) {
+            reinsertAll(overflow);
+        }
+    }
+
+    // Vacía la ranura en el auxiliar (intercambiando arreglos) y vuelve a programar sus entradas
+    private void reinsertAll(Bucket slot) {
+        scratch.swapWith(slot);
+        for (int i = 0; i < scratch.size; i++) {
+            insert(scratch.ids[i], scratch.dues[i]);
+        }
+        scratch.size = 0;
+    }
+
+    /**
+     * Ranura con pares (id, tick de vencimiento) en arreglos primitivos
+     */
+    private static class Bucket {
+        int[] ids = new int[4];
+        int[] dues = new int[4];
+        int size = 0;
+
+        void add(int id, int due) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                dues = Arrays.copyOf(dues, size * 2);
+            }
+            ids[size] = id;
+            dues[size] = due;
+            size++;
+        }
+
+        void swapWith(Bucket other) {
+            int[] i = ids; ids = other.ids; other.ids = i;
+            int[] d = dues; dues = other.dues; other.dues = d;
+            int n = size; size = other.size; other.size = n;
+        }
+
+        // Saca las entradas que vencen en tick y deja las demás en la ranura
+        int drainDue(int tick, int[] out, int count) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                if (dues[i] == tick) {
+                    out[count++] = ids[i];
+                } else {
+                    ids[kept] = ids[i];
+                    dues[kept] = dues[i];
+                    kept++;
+                }
+            }
+            size = kept;
+            return count;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package domain.game;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Triple buffer entre un escritor (hilo del juego) y un lector (el que dibuja), sin locks.
+ * El escritor llena su buffer trasero y lo publica intercambiándolo con el del medio;
+ * el lector, si hay uno nuevo en el medio, lo intercambia con el suyo. Ninguno espera al otro
+ * y nunca tocan el mismo buffer a la vez: el lector siempre ve un frame completo.
+ */
+public class TripleBuffer<T> {
+
+    // Bit que marca que el buffer del medio es más nuevo que el del lector
+    private static final int FRESH = 4;
+    private static final int INDEX = 3;
+
+    private final Object[] slots = new Object[3];
+
+    // Índice del buffer del medio, más el bit FRESH
+    private final AtomicInteger middle = new AtomicInteger(1);
+
+    // Solo los usa su dueño
+    private int back = 0;
+    private int front = 2;
+    private boolean hasFront = false;
+
+    public TripleBuffer(Supplier<T> factory) {
+        for (int i = 0; i < slots.length; i++) slots[i] = factory.get();
+    }
+
+    /**
+     * Buffer que el escritor puede llenar; sigue siendo suyo hasta publish
+     */
+    @SuppressWarnings("unchecked")
+    public T back() {
+        return (T) slots[back];
+    }
+
+    /**
+     * Publica el buffer trasero y toma el del medio para el próximo frame
+     */
+    public void publish() {
+        back = middle.getAndSet(back | FRESH) & INDEX;
+    }
+
+    /**
+     * Último frame publicado, o null si todavía no se publicó ninguno.
+     * Queda intacto hasta la siguiente llamada del mismo lector.
+     */
+    @SuppressWarnings("unchecked")
+    public T latest() {
+        if ((middle.get() & FRESH) != 0) {
+            front = middle.getAndSet(front) & INDEX;
+            hasFront = true;
+        }
+        return hasFront ? (T) slots[front] : null;
+    }
+}
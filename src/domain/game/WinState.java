@@ -1,11 +1,10 @@
 package domain.game;
 
 import presentation.GamePanel;
+import presentation.ImageRegistry;
 
-import javax.swing.*;
 import java.awt.*;
 import java.awt.event.KeyEvent;
-import java.util.Objects;
 
 import presentation.MenuState;
 
@@ -34,7 +33,7 @@ public class WinState implements GameState {
 
     private void loadAssets() {
         try {
-            victoryImage = new ImageIcon(Objects.requireNonNull(getClass().getResource("/victory-state.png"))).getImage();
+            victoryImage = ImageRegistry.get("/victory-state.png");
         } catch (Exception e) {
             System.err.println("Error cargando imagen de victoria: " + e.getMessage());
         }
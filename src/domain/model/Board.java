@@ -1,18 +1,44 @@
 package domain.model;
 
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+import java.util.random.RandomGenerator;
+
 /**
  * El tablero contiene las diferentes entidades en la matriz de celdas de los mapas.
  */
-public class Board {
+public final class Board {
 
     private final int rows;
     private final int cols;
     private final CellType[][] cells;
 
+    // Registro de cambios para consumidores incrementales (render, IA, red...)
+    private final BoardChangeLog changeLog = new BoardChangeLog();
+    private int tick = 0;
+
+    // Zobrist de los tipos de celda, al día con cada setCellType
+    private long hash = 0;
+
+    // Sube cada vez que una celda pasa a ser transitable o deja de serlo (invalida caminos guardados)
+    private volatile int walkabilityVersion = 0;
+
+    // Celdas transitables en un arreglo denso (orden arbitrario) y la posición de cada una en él (-1 si no está),
+    // para sortear una al azar en O(1); se mantiene en setCellType
+    private final int[] walkable;
+    private final int[] walkableSlot;
+    private int walkableCount = 0;
+
+    // Intentos al azar antes de recorrer el arreglo cuando hay celdas excluidas
+    private static final int SAMPLE_TRIES = 16;
+
     public Board(int rows, int cols) {
         this.rows = rows;
         this.cols = cols;
         this.cells = new CellType[rows][cols];
+        this.walkable = new int[rows * cols];
+        this.walkableSlot = new int[rows * cols];
+        Arrays.fill(walkableSlot, -1);
 
         initEmptyWithBorders();
     }
@@ -25,8 +51,11 @@ public class Board {
             for (int c = 0; c < cols; c++) {
                 if (r == 0 || c == 0 || r == rows - 1 || c == cols - 1) {
                     cells[r][c] = CellType.METALLIC_WALL;
+                    hash ^= cellKey(cellIndex(r, c), CellType.METALLIC_WALL);
                 } else {
                     cells[r][c] = CellType.EMPTY;
+                    hash ^= cellKey(cellIndex(r, c), CellType.EMPTY);
+                    addWalkable(cellIndex(r, c));
                 }
             }
         }
@@ -40,6 +69,23 @@ public class Board {
         return cols;
     }
 
+    public BoardChangeLog getChangeLog() { return changeLog; }
+
+    public int getTick() { return tick; }
+
+    /**
+     * Avanza el tick con el que se marcan los cambios de celdas
+     */
+    public void advanceTick() { tick++; }
+
+    /**
+     * Índice lineal de una celda (fila * columnas + columna)
+     */
+    public int cellIndex(int row, int col) { return row * cols + col; }
+    public int cellIndex(Position p) { return cellIndex(p.getRow(), p.getCol()); }
+    public int rowOf(int cellIndex) { return cellIndex / cols; }
+    public int colOf(int cellIndex) { return cellIndex % cols; }
+
     public boolean isInside(Position p) {
         return p.getRow() >= 0 && p.getRow() < rows && p.getCol() >= 0 && p.getCol() < cols;
     }
@@ -47,8 +93,81 @@ public class Board {
     public CellType getCellType(Position p) {
         return cells[p.getRow()][p.getCol()];
     }
+    public CellType getCellType(int cellIndex) {
+        return cells[cellIndex / cols][cellIndex % cols];
+    }
+
     public void setCellType(Position p, CellType type) {
+        CellType old = cells[p.getRow()][p.getCol()];
+        if (old == type) return;
+
         cells[p.getRow()][p.getCol()] = type;
+        changeLog.record(cellIndex(p), old, type, tick);
+        hash ^= cellKey(cellIndex(p), old) ^ cellKey(cellIndex(p), type);
+
+        if (old.isTraversable().booleanValue() != type.isTraversable().booleanValue()) {
+            if (type.isTraversable()) addWalkable(cellIndex(p));
+            else removeWalkable(cellIndex(p));
+            walkabilityVersion++;
+        }
+    }
+
+    private static long cellKey(int cell, CellType type) {
+        return Zobrist.key(Zobrist.CELL, cell, type.ordinal());
+    }
+
+    /**
+     * Hash de Zobrist de las celdas: igual para dos tableros con los mismos tipos en las mismas celdas
+     */
+    public long getHash() { return hash; }
+
+    private void addWalkable(int cell) {
+        walkableSlot[cell] = walkableCount;
+        walkable[walkableCount++] = cell;
+    }
+
+    // Saca la celda poniendo la última del arreglo en su lugar
+    private void removeWalkable(int cell) {
+        int slot = walkableSlot[cell];
+        int last = walkable[--walkableCount];
+        walkable[slot] = last;
+        walkableSlot[last] = slot;
+        walkableSlot[cell] = -1;
+    }
+
+    public int getWalkabilityVersion() { return walkabilityVersion; }
+
+    /**
+     * Cantidad de celdas transitables
+     */
+    public int getWalkableCount() { return walkableCount; }
+
+    /**
+     * Índice de una celda transitable elegida al azar con probabilidad uniforme, o -1 si no hay ninguna
+     */
+    public int randomWalkableCell(RandomGenerator random) {
+        return walkableCount == 0 ? -1 : walkable[random.nextInt(walkableCount)];
+    }
+
+    /**
+     * Como randomWalkableCell, pero sin las celdas para las que excluded da true (por ejemplo ocupadas).
+     * Prueba unas pocas veces al azar y, si todas caen en celdas excluidas, recorre el arreglo
+     * desde una posición al azar; -1 si todas están excluidas.
+     */
+    public int randomWalkableCell(RandomGenerator random, IntPredicate excluded) {
+        if (walkableCount == 0) return -1;
+
+        for (int i = 0; i < SAMPLE_TRIES; i++) {
+            int cell = walkable[random.nextInt(walkableCount)];
+            if (!excluded.test(cell)) return cell;
+        }
+
+        int start = random.nextInt(walkableCount);
+        for (int i = 0; i < walkableCount; i++) {
+            int cell = walkable[(start + i) % walkableCount];
+            if (!excluded.test(cell)) return cell;
+        }
+        return -1;
     }
 
     public boolean isWalkable(Position p) {
@@ -0,0 +1,8 @@
+package domain.model;
+
+/**
+ * Recibe los cambios de celdas registrados en el BoardChangeLog.
+ */
+public interface BoardChangeListener {
+    void onCellChanged(int cellIndex, CellType oldType, CellType newType, int tick);
+}
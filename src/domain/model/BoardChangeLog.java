@@ -0,0 +1,79 @@
+package domain.model;
+
+/**
+ * Buffer circular con los cambios de celdas del tablero.
+ * Cada evento se empaqueta en un long: tick (32 bits), índice de celda (20 bits),
+ * tipo anterior (6 bits) y tipo nuevo (6 bits).
+ * Los consumidores guardan un cursor (secuencia) y leen solo lo nuevo desde ese cursor;
+ * si se quedaron atrás más de la capacidad deben volver a recorrer el tablero completo.
+ */
+public class BoardChangeLog {
+
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private static final int CELL_BITS = 20;
+    private static final int TYPE_BITS = 6;
+    private static final int TYPE_MASK = (1 << TYPE_BITS) - 1;
+    private static final int CELL_MASK = (1 << CELL_BITS) - 1;
+
+    private static final CellType[] TYPES = CellType.values();
+
+    private final long[] events;
+    private final int mask;
+
+    // Secuencia del próximo evento a escribir
+    private long head = 0;
+
+    public BoardChangeLog() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * La capacidad se redondea a la siguiente potencia de dos
+     */
+    public BoardChangeLog(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.events = new long[size];
+        this.mask = size - 1;
+    }
+
+    void record(int cellIndex, CellType oldType, CellType newType, int tick) {
+        long packed = ((long) tick << 32)
+                | ((long) (cellIndex & CELL_MASK) << (2 * TYPE_BITS))
+                | ((long) (oldType.ordinal() & TYPE_MASK) << TYPE_BITS)
+                | (newType.ordinal() & TYPE_MASK);
+        events[(int) (head & mask)] = packed;
+        head++;
+    }
+
+    public int getCapacity() { return events.length; }
+
+    /**
+     * Cursor que apunta justo después del último cambio registrado
+     */
+    public long getHead() { return head; }
+
+    /**
+     * True si el consumidor perdió eventos porque el buffer ya los sobrescribió
+     */
+    public boolean isOverrun(long cursor) {
+        return head - cursor > events.length;
+    }
+
+    /**
+     * Entrega al listener todos los cambios desde el cursor (en orden) y retorna el nuevo cursor.
+     * Si el cursor está desbordado solo se entregan los eventos que siguen en el buffer.
+     */
+    public long readSince(long cursor, BoardChangeListener listener) {
+        long from = Math.max(cursor, head - events.length);
+        for (long seq = from; seq < head; seq++) {
+            long e = events[(int) (seq & mask)];
+            int tick = (int) (e >>> 32);
+            int cell = (int) (e >>> (2 * TYPE_BITS)) & CELL_MASK;
+            CellType oldType = TYPES[(int) (e >>> TYPE_BITS) & TYPE_MASK];
+            CellType newType = TYPES[(int) e & TYPE_MASK];
+            listener.onCellChanged(cell, oldType, newType, tick);
+        }
+        return head;
+    }
+}
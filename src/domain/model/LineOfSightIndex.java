@@ -0,0 +1,122 @@
+package domain.model;
+
+/**
+ * Índice de línea de visión sobre el tablero.
+ * Para cada celda guarda la columna de la pared más cercana a la izquierda y a la derecha,
+ * y la fila de la más cercana arriba y abajo, así saber si hay una pared entre dos celdas
+ * alineadas es O(1). Solo las paredes bloquean la visión (el hielo no).
+ * Se mantiene leyendo el registro de cambios del tablero: cuando una celda pasa a ser
+ * o deja de ser pared se recalculan su fila y su columna.
+ */
+public final class LineOfSightIndex implements BoardChangeListener {
+
+    private final Board board;
+    private final int rows;
+    private final int cols;
+
+    // -1 / cols (o rows) significa que no hay pared en esa dirección
+    private final int[] wallLeft;
+    private final int[] wallRight;
+    private final int[] wallUp;
+    private final int[] wallDown;
+
+    private long cursor;
+
+    public LineOfSightIndex(Board board) {
+        this.board = board;
+        this.rows = board.getRows();
+        this.cols = board.getCols();
+
+        int n = rows * cols;
+        this.wallLeft = new int[n];
+        this.wallRight = new int[n];
+        this.wallUp = new int[n];
+        this.wallDown = new int[n];
+
+        rebuild();
+    }
+
+    public static boolean isWall(CellType type) {
+        return type == CellType.METALLIC_WALL ||
+                type == CellType.RED_WALL ||
+                type == CellType.YELLOW_WALL;
+    }
+
+    /**
+     * Aplica los cambios del tablero ocurridos desde la última sincronización
+     */
+    public void sync() {
+        BoardChangeLog log = board.getChangeLog();
+        if (log.isOverrun(cursor)) {
+            rebuild();
+            return;
+        }
+        cursor = log.readSince(cursor, this);
+    }
+
+    /**
+     * Recorre todo el tablero de nuevo
+     */
+    public void rebuild() {
+        cursor = board.getChangeLog().getHead();
+        for (int r = 0; r < rows; r++) rebuildRow(r);
+        for (int c = 0; c < cols; c++) rebuildCol(c);
+    }
+
+    @Override
+    public void onCellChanged(int cellIndex, CellType oldType, CellType newType, int tick) {
+        if (isWall(oldType) == isWall(newType)) return;
+        rebuildRow(board.rowOf(cellIndex));
+        rebuildCol(board.colOf(cellIndex));
+    }
+
+    private void rebuildRow(int r) {
+        int base = r * cols;
+        int last = -1;
+        for (int c = 0; c < cols; c++) {
+            wallLeft[base + c] = last;
+            if (isWall(board.getCellType(base + c))) last = c;
+        }
+        last = cols;
+        for (int c = cols - 1; c >= 0; c--) {
+            wallRight[base + c] = last;
+            if (isWall(board.getCellType(base + c))) last = c;
+        }
+    }
+
+    private void rebuildCol(int c) {
+        int last = -1;
+        for (int r = 0; r < rows; r++) {
+            wallUp[r * cols + c] = last;
+            if (isWall(board.getCellType(r * cols + c))) last = r;
+        }
+        last = rows;
+        for (int r = rows - 1; r >= 0; r--) {
+            wallDown[r * cols + c] = last;
+            if (isWall(board.getCellType(r * cols + c))) last = r;
+        }
+    }
+
+    public int wallLeftOf(int row, int col) { return wallLeft[row * cols + col]; }
+    public int wallRightOf(int row, int col) { return wallRight[row * cols + col]; }
+    public int wallAbove(int row, int col) { return wallUp[row * cols + col]; }
+    public int wallBelow(int row, int col) { return wallDown[row * cols + col]; }
+
+    /**
+     * True si no hay paredes entre las dos columnas de la fila (sin contar los extremos)
+     */
+    public boolean isRowClear(int row, int col1, int col2) {
+        int lo = Math.min(col1, col2);
+        int hi = Math.max(col1, col2);
+        return wallRight[row * cols + lo] >= hi;
+    }
+
+    /**
+     * True si no hay paredes entre las dos filas de la columna (sin contar los extremos)
+     */
+    public boolean isColClear(int col, int row1, int row2) {
+        int lo = Math.min(row1, row2);
+        int hi = Math.max(row1, row2);
+        return wallDown[lo * cols + col] >= hi;
+    }
+}
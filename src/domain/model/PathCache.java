@@ -0,0 +1,135 @@
+package domain.model;
+
+import domain.utils.Direction;
+
+import java.util.Arrays;
+
+/**
+ * Caché LRU de caminos más cortos hacia una meta, por (versión de transitabilidad, celda meta).
+ * Para cada meta guarda un BFS hecho desde la meta hacia atrás: en cada celda, el paso que
+ * acerca a la meta. Así sirve desde cualquier inicio, y todos los que persiguen al mismo
+ * jugador usan la misma búsqueda mientras el jugador no se mueva.
+ * La versión del tablero cambia solo cuando una celda pasa a ser transitable o deja de serlo,
+ * y entonces todo lo guardado deja de valer.
+ * Los arreglos de cada entrada se reutilizan al desalojarla: consultar no crea objetos.
+ * Es seguro entre hilos (los enemigos pueden decidir en paralelo); la búsqueda de una meta
+ * nueva se hace dentro del lock, que es lo raro.
+ */
+public class PathCache {
+
+    public static final int DEFAULT_CAPACITY = 8;
+
+    private static final byte NO_STEP = -1;
+    private static final Direction[] DIRECTIONS = {Direction.UP, Direction.DOWN, Direction.LEFT, Direction.RIGHT};
+    private static final Direction[] BY_ORDINAL = Direction.values();
+
+    private final Board board;
+    private final ScratchArena arena;
+
+    // Entradas: meta, paso hacia la meta por celda y último uso (para desalojar la más vieja)
+    private final int[] goals;
+    private final byte[][] steps;
+    private final long[] lastUse;
+    private int size = 0;
+    private long clock = 0;
+    private int version = -1;
+
+    private long hits;
+    private long misses;
+
+    public PathCache(Board board, ScratchArena arena) {
+        this(board, arena, DEFAULT_CAPACITY);
+    }
+
+    public PathCache(Board board, ScratchArena arena, int capacity) {
+        this.board = board;
+        this.arena = arena;
+        this.goals = new int[capacity];
+        this.steps = new byte[capacity][];
+        this.lastUse = new long[capacity];
+    }
+
+    /**
+     * Primer paso del camino más corto de start a goal
+     * (NONE si no hay camino o ya está en la meta)
+     */
+    public synchronized Direction firstStep(int startCell, int goalCell) {
+        byte step = stepsTowards(goalCell)[startCell];
+        return step == NO_STEP ? Direction.NONE : BY_ORDINAL[step];
+    }
+
+    public synchronized long getHits() { return hits; }
+    public synchronized long getMisses() { return misses; }
+
+    // Pasos hacia la meta para la versión actual del tablero; hace el BFS si no están
+    private byte[] stepsTowards(int goalCell) {
+        int v = board.getWalkabilityVersion();
+        if (v != version) {
+            // Cambió el tablero: nada de lo guardado sirve
+            size = 0;
+            version = v;
+        }
+
+        int slot = -1;
+        for (int i = 0; i < size; i++) {
+            if (goals[i] == goalCell) {
+                slot = i;
+                break;
+            }
+        }
+        if (slot >= 0) {
+            hits++;
+        } else {
+            misses++;
+            slot = size < goals.length ? size++ : oldest();
+            if (steps[slot] == null) steps[slot] = new byte[board.getRows() * board.getCols()];
+            goals[slot] = goalCell;
+            bfsFrom(goalCell, steps[slot]);
+        }
+        lastUse[slot] = ++clock;
+        return steps[slot];
+    }
+
+    private int oldest() {
+        int slot = 0;
+        for (int i = 1; i < size; i++) {
+            if (lastUse[i] < lastUse[slot]) slot = i;
+        }
+        return slot;
+    }
+
+    // BFS desde la meta por celdas transitables; cada celda alcanzada guarda el paso hacia la celda
+    // desde la que se llegó (un paso más cerca de la meta). La memoria de trabajo sale del ScratchArena.
+    private void bfsFrom(int goalCell, byte[] out) {
+        int rows = board.getRows();
+        int cols = board.getCols();
+        Arrays.fill(out, NO_STEP);
+
+        PathScratch scratch = arena.acquire();
+        try {
+            scratch.visit(goalCell, -1, 0);
+
+            while (scratch.hasQueued()) {
+                int current = scratch.poll();
+                int cr = board.rowOf(current);
+                int cc = board.colOf(current);
+
+                for (Direction dir : DIRECTIONS) {
+                    int nr = cr + dir.getDRow();
+                    int nc = cc + dir.getDCol();
+
+                    if (nr < 0 || nr >= rows || nc < 0 || nc >= cols) continue;
+                    int next = board.cellIndex(nr, nc);
+                    if (scratch.isVisited(next)) continue;
+                    if (!board.getCellType(next).isTraversable()) continue;
+
+                    scratch.visit(next, current, scratch.value(current) + 1);
+                    // Desde next se vuelve a current yendo al revés
+                    out[next] = (byte) dir.opposite().ordinal();
+                }
+            }
+        } finally {
+            arena.release(scratch);
+        }
+    }
+}
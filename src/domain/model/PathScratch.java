@@ -0,0 +1,66 @@
+package domain.model;
+
+import java.util.Arrays;
+
+/**
+ * Memoria de trabajo para una búsqueda en el tablero (BFS y similares), reutilizable.
+ * Las celdas visitadas se marcan con la generación de la búsqueda en curso, así empezar
+ * una nueva no limpia los arreglos: basta con subir la generación.
+ * Por celda guarda padre, un valor (distancia, ticks...) y una etiqueta (origen, dueño...);
+ * solo son válidos en las celdas visitadas en la búsqueda actual.
+ * La cola es de enteros (índices de celda) con capacidad para todo el tablero.
+ */
+public final class PathScratch {
+
+    private final int[] stamp;
+    private final int[] parent;
+    private final int[] value;
+    private final int[] label;
+    private final int[] queue;
+
+    private int generation = 0;
+    private int head;
+    private int tail;
+
+    PathScratch(int cells) {
+        this.stamp = new int[cells];
+        this.parent = new int[cells];
+        this.value = new int[cells];
+        this.label = new int[cells];
+        this.queue = new int[cells];
+    }
+
+    /**
+     * Empieza una búsqueda nueva: todas las celdas quedan sin visitar y la cola vacía
+     */
+    public void begin() {
+        head = 0;
+        tail = 0;
+        generation++;
+        if (generation == Integer.MAX_VALUE) {
+            // Muy improbable, pero una marca vieja no debe coincidir con la nueva generación
+            Arrays.fill(stamp, 0);
+            generation = 1;
+        }
+    }
+
+    public boolean isVisited(int cell) { return stamp[cell] == generation; }
+
+    /**
+     * Marca la celda como visitada, guarda su padre y su valor, y la encola
+     */
+    public void visit(int cell, int parentCell, int cellValue) {
+        stamp[cell] = generation;
+        parent[cell] = parentCell;
+        value[cell] = cellValue;
+        queue[tail++] = cell;
+    }
+
+    public boolean hasQueued() { return head < tail; }
+    public int poll() { return queue[head++]; }
+
+    public int parent(int cell) { return parent[cell]; }
+    public int value(int cell) { return value[cell]; }
+    public int label(int cell) { return label[cell]; }
+    public void setLabel(int cell, int cellLabel) { label[cell] = cellLabel; }
+}
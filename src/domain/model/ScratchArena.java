@@ -0,0 +1,42 @@
+package domain.model;
+
+import java.util.Arrays;
+
+/**
+ * Pool de PathScratch del tamaño del tablero, compartido por todas las búsquedas de un nivel.
+ * Quien busca pide uno, lo usa y lo devuelve; así las búsquedas de cada tick no generan basura.
+ * Los libres se guardan en una pila sobre un arreglo, que solo crece si hay más búsquedas
+ * simultáneas que nunca antes: pedir y devolver no crea objetos.
+ * Es seguro entre hilos: los enemigos pueden decidir en paralelo y cada uno toma el suyo.
+ */
+public class ScratchArena {
+
+    private final int cells;
+    private PathScratch[] free = new PathScratch[4];
+    private int freeCount = 0;
+
+    public ScratchArena(Board board) {
+        this.cells = board.getRows() * board.getCols();
+    }
+
+    /**
+     * PathScratch libre, ya listo para empezar una búsqueda
+     */
+    public PathScratch acquire() {
+        PathScratch scratch = null;
+        synchronized (this) {
+            if (freeCount > 0) {
+                scratch = free[--freeCount];
+                free[freeCount] = null;
+            }
+        }
+        if (scratch == null) scratch = new PathScratch(cells);
+        scratch.begin();
+        return scratch;
+    }
+
+    public synchronized void release(PathScratch scratch) {
+        if (freeCount == free.length) free = Arrays.copyOf(free, freeCount * 2);
+        free[freeCount++] = scratch;
+    }
+}
@@ -0,0 +1,46 @@
+package domain.model;
+
+/**
+ * Claves de Zobrist para el hash del estado de un nivel.
+ * Cada pieza del estado (tipo de una celda, casilla o dirección de una entidad...) tiene una clave
+ * de 64 bits y el hash es el XOR de las claves presentes: al cambiar una pieza se saca su clave
+ * vieja y se pone la nueva, sin recorrer nada. Las claves salen de splitmix64 sobre
+ * (dominio, a, b), así son las mismas en cualquier máquina y no hace falta guardarlas en tablas.
+ */
+public final class Zobrist {
+
+    public static final int CELL = 1;
+    public static final int ENTITY_CELL = 2;
+    public static final int ENTITY_DIRECTION = 3;
+    public static final int ENTITY_FLAGS = 4;
+    public static final int PHASE = 5;
+    public static final int PLAYER_CELL = 6;
+    public static final int PLAYER_DIRECTION = 7;
+    public static final int PLAYER_STATE = 8;
+
+    private static final long FIELD_MASK = (1L << 28) - 1;
+
+    private Zobrist() {}
+
+    /**
+     * Clave de la pieza (dominio, a, b); a y b usan sus 28 bits bajos
+     */
+    public static long key(int domain, int a, int b) {
+        long x = ((long) domain << 56) | ((a & FIELD_MASK) << 28) | (b & FIELD_MASK);
+        return splitmix64(x);
+    }
+
+    /**
+     * Empaqueta fila y columna en un solo campo (hasta 16383 de cada una)
+     */
+    public static int cell(int row, int col) {
+        return (row << 14) | (col & 0x3FFF);
+    }
+
+    private static long splitmix64(long x) {
+        long z = x + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -1,18 +1,19 @@
-package domain.entities;
+package presentation;
 
 import domain.utils.Direction;
-import javax.swing.*;
+
 import java.awt.*;
 import java.util.EnumMap;
 import java.util.Map;
 
 /**
  * Maneja sprites animados con direcciones
- * Cada enemigo puede tener diferentes sprites según su dirección de movimiento
+ * Cada enemigo puede tener diferentes sprites según su dirección de movimiento.
+ * El cuadro de cada GIF se elige con el tiempo de juego que se pasa al dibujar.
  */
 public class AnimatedSprite {
 
-    private final Map<Direction, Image> sprites;
+    private final Map<Direction, GifAnimation> sprites;
     private Direction currentDirection;
 
     /**
@@ -42,12 +43,11 @@ public class AnimatedSprite {
     }
 
     /**
-     * Carga un sprite desde un archivo de recursos
+     * Toma la animación ya decodificada del registro de imágenes
      */
     private void loadSprite(Direction direction, String path) {
         try {
-            ImageIcon icon = new ImageIcon(getClass().getResource(path));
-            sprites.put(direction, icon.getImage());
+            sprites.put(direction, ImageRegistry.animation(path));
         } catch (Exception e) {
             System.err.println("Error cargando sprite: " + path);
             e.printStackTrace();
@@ -64,20 +64,20 @@ public class AnimatedSprite {
     }
 
     /**
-     * Dibuja el sprite actual según la dirección
+     * Dibuja el cuadro que toca en millis (tiempo de juego) según la dirección
      */
-    public void draw(Graphics2D g, int x, int y, int width, int height, Direction direction) {
+    public void draw(Graphics2D g, int x, int y, int width, int height, Direction direction, long millis) {
         setDirection(direction);
-        draw(g, x, y, width, height);
+        draw(g, x, y, width, height, millis);
     }
 
     /**
-     * Dibuja el sprite actual
+     * Dibuja el cuadro que toca en millis de la dirección actual, con los cuadros ya escalados
      */
-    public void draw(Graphics2D g, int x, int y, int width, int height) {
-        Image currentSprite = sprites.get(currentDirection);
-        if (currentSprite != null) {
-            g.drawImage(currentSprite, x, y, width, height, null);
+    public void draw(Graphics2D g, int x, int y, int width, int height, long millis) {
+        GifAnimation animation = sprites.get(currentDirection);
+        if (animation != null) {
+            g.drawImage(animation.scaledTo(width, height).frameAt(millis), x, y, null);
         }
     }
-}
\ No newline at end of file
+}
@@ -22,6 +22,9 @@ public class BadDopoCreamGUI extends JFrame {
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
         setExtendedState(JFrame.MAXIMIZED_BOTH);
 
+        // El panel del juego es pesado (Canvas): los menús tienen que ser pesados para verse encima
+        JPopupMenu.setDefaultLightWeightPopupEnabled(false);
+
         this.game = new Game();
         GamePanel panel = new GamePanel(game);
 
@@ -170,6 +173,8 @@ public class BadDopoCreamGUI extends JFrame {
     }
 
     public static void main(String[] args) {
+        // Decodifica las imágenes en segundo plano mientras se arma la ventana
+        ImageRegistry.preloadAll();
         SwingUtilities.invokeLater(BadDopoCreamGUI::new);
     }
 }
\ No newline at end of file
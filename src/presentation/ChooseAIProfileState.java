@@ -4,9 +4,7 @@ import domain.game.AIProfile;
 import domain.game.Game;
 import domain.game.GameState;
 
-import javax.swing.*;
 import java.awt.*;
-import java.util.Objects;
 
 /**
  * Permite escoger el perfil de IA para PvM y MvM.
@@ -69,45 +67,16 @@ public class ChooseAIProfileState implements GameState {
         this.optionSelected = optionSelected;
 
         try {
-            this.backgroundGif = new ImageIcon(
-                    Objects.requireNonNull(getClass().getResource("/home-animation.gif"))
-            ).getImage();
-
-            this.buttonBackBg = new ImageIcon(
-                    Objects.requireNonNull(getClass().getResource("/back-button-bg.jpg"))
-            ).getImage();
-
-            this.backButton = new ImageIcon(
-                    Objects.requireNonNull(getClass().getResource("/back-button.jpg"))
-            ).getImage();
-
-            this.playerBg = new ImageIcon(
-                    Objects.requireNonNull(getClass().getResource("/player-bg.jpg"))
-            ).getImage();
-
-            this.machine1Title = new ImageIcon(
-                    Objects.requireNonNull(getClass().getResource("/machine-1.png"))
-            ).getImage();
-
-            this.machine2Title = new ImageIcon(
-                    Objects.requireNonNull(getClass().getResource("/machine-2.png"))
-            ).getImage();
-
-            this.hungryImg = new ImageIcon(
-                    Objects.requireNonNull(getClass().getResource("/hungry.png"))
-            ).getImage();
-
-            this.fearfulImg = new ImageIcon(
-                    Objects.requireNonNull(getClass().getResource("/fearful.png"))
-            ).getImage();
-
-            this.expertImg = new ImageIcon(
-                    Objects.requireNonNull(getClass().getResource("/expert.png"))
-            ).getImage();
-
-            this.iceCreams = new ImageIcon(
-                    Objects.requireNonNull(getClass().getResource("/3-icecreams.png"))
-            ).getImage();
+            this.backgroundGif = ImageRegistry.get("/home-animation.gif");
+            this.buttonBackBg = ImageRegistry.get("/back-button-bg.jpg");
+            this.backButton = ImageRegistry.get("/back-button.jpg");
+            this.playerBg = ImageRegistry.get("/player-bg.jpg");
+            this.machine1Title = ImageRegistry.get("/machine-1.png");
+            this.machine2Title = ImageRegistry.get("/machine-2.png");
+            this.hungryImg = ImageRegistry.get("/hungry.png");
+            this.fearfulImg = ImageRegistry.get("/fearful.png");
+            this.expertImg = ImageRegistry.get("/expert.png");
+            this.iceCreams = ImageRegistry.get("/3-icecreams.png");
 
         } catch (Exception e) {
             System.err.println("Error cargando recursos: " + e.getMessage());
@@ -143,7 +112,7 @@ public class ChooseAIProfileState implements GameState {
             g.drawImage(titleImg, titleX, titleY, titleWidth, titleHeight, null);
         }
 
-        // Opciones con imágenes (Hungry, Fearful, Expert)
+        // Opciones con imágenes (Hungry, Fearful, Expert) y Search
         int optionWidth = 150;
         int optionHeight = 50;
 
@@ -157,6 +126,17 @@ public class ChooseAIProfileState implements GameState {
             g.drawImage(expertImg, optX, optY + optSpacing * 2, optionWidth, optionHeight, null);
         }
 
+        // Search no tiene imagen propia: se dibuja un botón con texto
+        int searchY = optY + optSpacing * 3;
+        g.setColor(new Color(255, 255, 255, 220));
+        g.fillRoundRect(optX, searchY, optionWidth, optionHeight, 20, 20);
+        g.setColor(new Color(104, 135, 158));
+        g.setFont(new Font("Arial", Font.BOLD, 22));
+        FontMetrics fm = g.getFontMetrics();
+        String label = "SEARCH";
+        g.drawString(label, optX + (optionWidth - fm.stringWidth(label)) / 2,
+                searchY + (optionHeight + fm.getAscent() - fm.getDescent()) / 2);
+
         // Helados a la derecha
         if (iceCreams != null) {
             g.drawImage(iceCreams, icX, icY, icW, icH, null);
@@ -227,6 +207,7 @@ public class ChooseAIProfileState implements GameState {
         if (y >= optY && y <= optY + optionHeight) return AIProfile.HUNGRY;
         if (y >= optY + optSpacing && y <= optY + optSpacing + optionHeight) return AIProfile.FEARFUL;
         if (y >= optY + optSpacing * 2 && y <= optY + optSpacing * 2 + optionHeight) return AIProfile.EXPERT;
+        if (y >= optY + optSpacing * 3 && y <= optY + optSpacing * 3 + optionHeight) return AIProfile.SEARCH;
 
         return null;
     }
@@ -5,10 +5,8 @@ import domain.game.Flavour;
 import domain.game.Game;
 import domain.game.GameState;
 
-import javax.swing.*;
 import java.awt.*;
 import java.awt.event.KeyEvent;
-import java.util.Objects;
 
 public class ChooseFlavourState implements GameState {
 
@@ -75,15 +73,15 @@ public class ChooseFlavourState implements GameState {
 
     private void loadAssets() {
         try {
-            backgroundGif = new ImageIcon(Objects.requireNonNull(getClass().getResource("/home-animation.gif"))).getImage();
-            buttonBackBg = new ImageIcon(Objects.requireNonNull(getClass().getResource("/back-button-bg.jpg"))).getImage();
-            backButton = new ImageIcon(Objects.requireNonNull(getClass().getResource("/back-button.jpg"))).getImage();
-            playerBg = new ImageIcon(Objects.requireNonNull(getClass().getResource("/player-bg.jpg"))).getImage();
-            chooseFlavour = new ImageIcon(Objects.requireNonNull(getClass().getResource("/choose-flavour.png"))).getImage();
-            threeIceCreams = new ImageIcon(Objects.requireNonNull(getClass().getResource("/joined-icecreams.png"))).getImage();
-
-            player1Icon = new ImageIcon(Objects.requireNonNull(getClass().getResource("/player-1.png"))).getImage();
-            player2Icon = new ImageIcon(Objects.requireNonNull(getClass().getResource("/player-2.png"))).getImage();
+            backgroundGif = ImageRegistry.get("/home-animation.gif");
+            buttonBackBg = ImageRegistry.get("/back-button-bg.jpg");
+            backButton = ImageRegistry.get("/back-button.jpg");
+            playerBg = ImageRegistry.get("/player-bg.jpg");
+            chooseFlavour = ImageRegistry.get("/choose-flavour.png");
+            threeIceCreams = ImageRegistry.get("/joined-icecreams.png");
+
+            player1Icon = ImageRegistry.get("/player-1.png");
+            player2Icon = ImageRegistry.get("/player-2.png");
 
         } catch (Exception e) {
             System.err.println("Error cargando recursos: " + e.getMessage());
@@ -0,0 +1,16 @@
+package presentation;
+
+import domain.game.FrameSnapshot;
+
+import java.awt.*;
+
+/**
+ * Dibuja un tipo de entidad del dominio.
+ * Lee la entidad i de la foto del frame: posición, dirección y el estado que cambia la imagen
+ * (sabor, si está encendida, si tiene púas...), nunca la entidad viva.
+ */
+@FunctionalInterface
+public interface EntityRenderer {
+
+    void render(Graphics2D g, FrameSnapshot frame, int i, int tileSize);
+}
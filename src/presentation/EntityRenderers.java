@@ -0,0 +1,131 @@
+package presentation;
+
+import domain.entities.*;
+import domain.game.Flavour;
+import domain.game.FrameSnapshot;
+import domain.game.GameClock;
+
+import java.awt.*;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registro de renderers por tipo de entidad.
+ * Las imágenes viven acá y no en las entidades: el dominio (y las simulaciones sin pantalla)
+ * no cargan ninguna. Si un tipo no está registrado se usa el de su clase padre más cercana.
+ */
+public final class EntityRenderers {
+
+    private static final Map<Class<?>, EntityRenderer> RENDERERS = new ConcurrentHashMap<>();
+
+    // Tamaño de las frutas respecto a la casilla
+    private static final double FRUIT_SCALE = 0.8;
+
+    static {
+        register(Banana.class, fruit(new Sprite("/banana.jpg")));
+        register(Grape.class, fruit(new Sprite("/grape.jpg")));
+        register(Cherry.class, fruit(new Sprite("/cherry.png")));
+        register(Pineapple.class, fruit(new Sprite("/pineapple.png")));
+        register(Cactus.class, cactus(new Sprite("/cactus-safe.png"), new Sprite("/cactus-not-safe.png")));
+
+        register(Troll.class, directional(new AnimatedSprite("/", "troll")));
+        register(Maceta.class, directional(new AnimatedSprite("/", "maceta")));
+        register(Narval.class, directional(new AnimatedSprite("/", "narval")));
+        register(OrangeSquid.class, directional(new AnimatedSprite("/", "orange-squid")));
+
+        register(Campfire.class, campfire(new Sprite("/campfire-on.png"), new Sprite("/campfire-off.png")));
+        register(Player.class, player());
+    }
+
+    private EntityRenderers() {}
+
+    public static void register(Class<? extends Entity> type, EntityRenderer renderer) {
+        RENDERERS.put(type, renderer);
+    }
+
+    /**
+     * Dibuja la entidad i de la foto con el renderer de su tipo; si no hay ninguno no dibuja nada
+     */
+    public static void render(Graphics2D g, FrameSnapshot frame, int i, int tileSize) {
+        EntityRenderer renderer = lookup(frame.kind(i));
+        if (renderer != null) renderer.render(g, frame, i, tileSize);
+    }
+
+    private static EntityRenderer lookup(Class<?> type) {
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            EntityRenderer renderer = RENDERERS.get(c);
+            if (renderer != null) {
+                if (c != type) RENDERERS.putIfAbsent(type, renderer);
+                return renderer;
+            }
+        }
+        return null;
+    }
+
+    // =========================
+    // Renderers por defecto
+    // =========================
+
+    private static EntityRenderer fruit(Sprite sprite) {
+        return (g, f, i, tile) -> {
+            int size = (int) (tile * FRUIT_SCALE);
+            int offset = (tile - size) / 2;
+            sprite.draw(g, f.col(i) * tile + offset, f.row(i) * tile + offset, size, size);
+        };
+    }
+
+    private static EntityRenderer cactus(Sprite safe, Sprite dangerous) {
+        return (g, f, i, tile) -> (f.hasFlag(i, FrameSnapshot.DANGEROUS) ? dangerous : safe)
+                .draw(g, f.col(i) * tile, f.row(i) * tile, tile, tile);
+    }
+
+    private static EntityRenderer directional(AnimatedSprite sprite) {
+        return (g, f, i, tile) -> sprite.draw(g, f.col(i) * tile, f.row(i) * tile, tile, tile, f.direction(i),
+                GameClock.millis(f.animationTick(i)));
+    }
+
+    private static EntityRenderer campfire(Sprite on, Sprite off) {
+        return (g, f, i, tile) -> (f.hasFlag(i, FrameSnapshot.LIT) ? on : off)
+                .draw(g, f.col(i) * tile, f.row(i) * tile, tile, tile);
+    }
+
+    /**
+     * Helado según su sabor; al morir muestra el GIF de muerte una vez y, cuando termina, el helado derretido.
+     * Si el GIF de muerte cargado no dura lo que el sabor espera, solo se avisa: manda el sabor.
+     */
+    private static EntityRenderer player() {
+        Map<Flavour, AnimatedSprite> alive = new EnumMap<>(Flavour.class);
+        Map<Flavour, GifAnimation> dying = new EnumMap<>(Flavour.class);
+        Map<Flavour, Sprite> dead = new EnumMap<>(Flavour.class);
+        for (Flavour f : Flavour.values()) {
+            alive.put(f, new AnimatedSprite("/", f.prefix()));
+            try {
+                GifAnimation death = ImageRegistry.animation("/" + f.prefix() + "-death.gif");
+                dying.put(f, death);
+                if (death.getDurationMillis() != f.getDeathAnimationMillis()) {
+                    System.err.println("El GIF /" + f.prefix() + "-death.gif dura " + death.getDurationMillis()
+                            + " ms y el sabor espera " + f.getDeathAnimationMillis() + " ms");
+                }
+            } catch (Exception e) {
+                System.err.println("Error cargando sprite: /" + f.prefix() + "-death.gif");
+            }
+            dead.put(f, new Sprite("/" + f.prefix() + "-dead.png"));
+        }
+
+        return (g, f, i, tile) -> {
+            int x = f.col(i) * tile;
+            int y = f.row(i) * tile;
+
+            long millis = GameClock.millis(f.animationTick(i));
+
+            if (!f.hasFlag(i, FrameSnapshot.DEAD)) {
+                alive.get(f.flavour(i)).draw(g, x, y, tile, tile, f.direction(i), millis);
+            } else if (f.hasFlag(i, FrameSnapshot.DEATH_FINISHED) || !dying.containsKey(f.flavour(i))) {
+                dead.get(f.flavour(i)).draw(g, x, y, tile, tile);
+            } else {
+                g.drawImage(dying.get(f.flavour(i)).scaledTo(tile, tile).frameOnce(millis), x, y, null);
+            }
+        };
+    }
+}
@@ -1,18 +1,27 @@
 package presentation;
 
 import domain.game.Game;
+import domain.game.GameClock;
+import domain.game.GameState;
 
-import javax.swing.*;
 import java.awt.*;
 import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
+import java.awt.image.BufferStrategy;
+import java.awt.image.BufferedImage;
+import java.util.List;
 
 /**
  * Inicializa la primera pantalla del juego, usando Listeners y Events.
+ * Dibuja activamente desde el hilo del juego: cada frame se pinta a resolución nativa en una
+ * imagen fuera de pantalla y se copia escalada una sola vez con un BufferStrategy.
+ * Si todavía no hay BufferStrategy (componente sin mostrar) se cae a repaint.
+ * Entre frames solo se repintan y se copian las zonas que el estado marca como cambiadas;
+ * se vuelve a todo el frame al cambiar de estado, al cambiar el tamaño o si se pierde el buffer.
  */
-public class GamePanel extends JPanel implements Runnable, KeyListener, MouseListener {
+public class GamePanel extends Canvas implements Runnable, KeyListener, MouseListener {
 
     public static final Integer TILE_SIZE = 32;
     public static final Integer COLS = 18;
@@ -21,19 +30,32 @@ public class GamePanel extends JPanel implements Runnable, KeyListener, MouseLis
     public static final Integer WIDTH = COLS * TILE_SIZE;
     public static final Integer HEIGHT = ROWS * TILE_SIZE;
 
+    private static final Color BACKGROUND = new Color(104,135,158);
+
     private final Game game;
     private Thread gameThread;
-    private boolean running;
+    private volatile boolean running;
+
+    // Frame a resolución nativa; lo pinta quien dibuja (hilo del juego, o el de Swing en repaint)
+    private final BufferedImage backbuffer = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+    private BufferStrategy strategy;
 
-    private float scaleFactor = 1.0f;
-    private int xOffset = 0;
-    private int yOffset = 0;
+    // Lo que hay en el backbuffer y en pantalla, para saber si alcanza con un repintado parcial
+    private GameState drawnState;
+    private int drawnWidth = -1;
+    private int drawnHeight = -1;
+
+    // Los lee el hilo de Swing para traducir los clics
+    private volatile float scaleFactor = 1.0f;
+    private volatile int xOffset = 0;
+    private volatile int yOffset = 0;
 
     public GamePanel(Game game) {
         this.game = game;
         this.game.setState(new MenuState(game));
-        setBackground(new Color(104,135,158));
+        setBackground(BACKGROUND);
         setFocusable(true);
+        setIgnoreRepaint(true);
         addKeyListener(this);
         addMouseListener(this);
     }
@@ -52,53 +74,154 @@ public class GamePanel extends JPanel implements Runnable, KeyListener, MouseLis
         }
     }
 
+    /**
+     * Un tick por vuelta; el ritmo lo marca GameClock (frecuencia de ticks y escala de tiempo)
+     */
     @Override
     public void run() {
-        final long frameTime = 25;
+        long nextTick = System.nanoTime();
 
         while (running) {
-            long start = System.currentTimeMillis();
-
             game.update();
-            repaint();
-
-            long elapsed = System.currentTimeMillis() - start;
-            long sleep = frameTime - elapsed;
-            if (sleep < 0) sleep = 2;
+            if (!renderActive()) repaint();
+
+            nextTick += GameClock.nanosPerTick();
+            long sleep = nextTick - System.nanoTime();
+            if (sleep <= 0) {
+                // Atrasado: no se intenta recuperar los ticks perdidos
+                nextTick = System.nanoTime();
+                continue;
+            }
 
             try {
-                Thread.sleep(sleep);
+                Thread.sleep(sleep / 1_000_000, (int) (sleep % 1_000_000));
             } catch (InterruptedException e) {
                 e.printStackTrace();
             }
         }
     }
 
-    @Override
-    protected void paintComponent(Graphics g) {
-        super.paintComponent(g);
-        Graphics2D g2 = (Graphics2D) g;
+    /**
+     * Pinta el frame y lo muestra con el BufferStrategy; false si todavía no se puede
+     */
+    private boolean renderActive() {
+        if (strategy == null) {
+            if (!isDisplayable() || getWidth() <= 0 || getHeight() <= 0) return false;
+            try {
+                createBufferStrategy(2);
+                strategy = getBufferStrategy();
+            } catch (IllegalStateException e) {
+                return false;
+            }
+        }
 
+        List<Rectangle> dirty = renderBackbuffer(true);
+
+        // Con page flipping el buffer trasero puede no conservar el frame anterior
+        BufferCapabilities caps = strategy.getCapabilities();
+        boolean keepsContents = !caps.isPageFlipping() || caps.getFlipContents() == BufferCapabilities.FlipContents.COPIED;
+        if (!keepsContents || getWidth() != drawnWidth || getHeight() != drawnHeight) dirty = null;
+
+        boolean lost;
+        do {
+            boolean restored;
+            do {
+                Graphics g = strategy.getDrawGraphics();
+                try {
+                    blit(g, dirty);
+                } finally {
+                    g.dispose();
+                }
+                restored = strategy.contentsRestored();
+                if (restored) dirty = null;
+            } while (restored);
+            strategy.show();
+
+            lost = strategy.contentsLost();
+            if (lost) dirty = null;
+        } while (lost);
+
+        Toolkit.getDefaultToolkit().sync();
+        return true;
+    }
+
+    /**
+     * Dibuja el estado actual sin ninguna transformación. Si partial y el estado es el mismo
+     * del frame anterior, deja que repinte solo lo que cambió y retorna esas zonas;
+     * null si se dibujó todo.
+     */
+    private List<Rectangle> renderBackbuffer(boolean partial) {
+        synchronized (backbuffer) {
+            Graphics2D g = backbuffer.createGraphics();
+            try {
+                GameState state = game.getState();
+                List<Rectangle> dirty = (partial && state == drawnState) ? game.renderDirty(g) : null;
+                if (dirty == null) {
+                    g.setColor(BACKGROUND);
+                    g.fillRect(0, 0, WIDTH, HEIGHT);
+                    game.render(g);
+                }
+                drawnState = state;
+                return dirty;
+            } finally {
+                g.dispose();
+            }
+        }
+    }
+
+    /**
+     * Copia el frame escalado y centrado, con bandas del color de fondo alrededor.
+     * Con zonas sucias copia solo esas (la pantalla conserva el resto del frame anterior).
+     */
+    private void blit(Graphics g, List<Rectangle> dirty) {
         int screenWidth = getWidth();
         int screenHeight = getHeight();
 
         float scaleX = (float) screenWidth / WIDTH;
         float scaleY = (float) screenHeight / HEIGHT;
-        scaleFactor = Math.min(scaleX, scaleY);
-
-        int scaledWidth = (int) (WIDTH * scaleFactor);
-        int scaledHeight = (int) (HEIGHT * scaleFactor);
-        xOffset = (screenWidth - scaledWidth) / 2;
-        yOffset = (screenHeight - scaledHeight) / 2;
-
-        var oldTransform = g2.getTransform();
+        float scale = Math.min(scaleX, scaleY);
+
+        int scaledWidth = (int) (WIDTH * scale);
+        int scaledHeight = (int) (HEIGHT * scale);
+        int x = (screenWidth - scaledWidth) / 2;
+        int y = (screenHeight - scaledHeight) / 2;
+
+        synchronized (backbuffer) {
+            if (dirty == null) {
+                g.setColor(BACKGROUND);
+                g.fillRect(0, 0, screenWidth, screenHeight);
+                g.drawImage(backbuffer, x, y, scaledWidth, scaledHeight, null);
+            } else {
+                // Mismo redondeo que la copia completa, para que las zonas calcen sin costuras
+                for (Rectangle r : dirty) {
+                    int dx1 = x + r.x * scaledWidth / WIDTH;
+                    int dy1 = y + r.y * scaledHeight / HEIGHT;
+                    int dx2 = x + (r.x + r.width) * scaledWidth / WIDTH;
+                    int dy2 = y + (r.y + r.height) * scaledHeight / HEIGHT;
+                    g.drawImage(backbuffer, dx1, dy1, dx2, dy2, r.x, r.y, r.x + r.width, r.y + r.height, null);
+                }
+            }
+        }
 
-        g2.translate(xOffset, yOffset);
-        g2.scale(scaleFactor, scaleFactor);
+        drawnWidth = screenWidth;
+        drawnHeight = screenHeight;
+        scaleFactor = scale;
+        xOffset = x;
+        yOffset = y;
+    }
 
-        game.render(g2);
+    /**
+     * Camino de respaldo (repaint) mientras no hay BufferStrategy
+     */
+    @Override
+    public void paint(Graphics g) {
+        renderBackbuffer(false);
+        blit(g, null);
+    }
 
-        g2.setTransform(oldTransform);
+    @Override
+    public void update(Graphics g) {
+        paint(g);
     }
 
     @Override
@@ -0,0 +1,179 @@
+package presentation;
+
+import org.w3c.dom.Node;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Arrays;
+
+/**
+ * GIF animado decodificado una sola vez con ImageIO: cuadros completos ya compuestos y
+ * el momento en que termina cada uno. El cuadro a mostrar se elige con un tiempo de juego,
+ * no con el reloj de AWT, así la animación avanza con los ticks y se repite igual en cada partida.
+ */
+public final class GifAnimation {
+
+    // Los navegadores tratan una demora de 0 como 100 ms; se hace lo mismo
+    private static final int DEFAULT_DELAY_MILLIS = 100;
+
+    private final BufferedImage[] frames;
+    private final long[] frameEnds;
+
+    // Copia escalada para el último tamaño pedido
+    private volatile GifAnimation scaled;
+
+    private GifAnimation(BufferedImage[] frames, long[] frameEnds) {
+        this.frames = frames;
+        this.frameEnds = frameEnds;
+    }
+
+    /**
+     * Decodifica todos los cuadros, aplicando la posición y el modo de borrado de cada uno
+     */
+    public static GifAnimation decode(URL url) throws IOException {
+        ImageReader reader = ImageIO.getImageReadersByFormatName("gif").next();
+        try (InputStream in = url.openStream(); ImageInputStream stream = ImageIO.createImageInputStream(in)) {
+            reader.setInput(stream, false);
+
+            int count = reader.getNumImages(true);
+            BufferedImage[] frames = new BufferedImage[count];
+            long[] ends = new long[count];
+
+            Dimension size = screenSize(reader);
+            BufferedImage canvas = null;
+            long time = 0;
+
+            for (int i = 0; i < count; i++) {
+                BufferedImage raw = reader.read(i);
+                IIOMetadataNode meta = (IIOMetadataNode) reader.getImageMetadata(i).getAsTree("javax_imageio_gif_image_1.0");
+                Node descriptor = child(meta, "ImageDescriptor");
+                Node control = child(meta, "GraphicControlExtension");
+
+                int x = intAttr(descriptor, "imageLeftPosition", 0);
+                int y = intAttr(descriptor, "imageTopPosition", 0);
+                int delay = intAttr(control, "delayTime", 0) * 10;
+                String disposal = control != null ? attr(control, "disposalMethod") : "none";
+
+                if (canvas == null) {
+                    int w = size != null ? size.width : raw.getWidth() + x;
+                    int h = size != null ? size.height : raw.getHeight() + y;
+                    canvas = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+                }
+                BufferedImage previous = "restoreToPrevious".equals(disposal) ? copy(canvas) : null;
+
+                Graphics2D g = canvas.createGraphics();
+                g.drawImage(raw, x, y, null);
+                g.dispose();
+
+                frames[i] = copy(canvas);
+                time += delay > 0 ? delay : DEFAULT_DELAY_MILLIS;
+                ends[i] = time;
+
+                // Lo que queda para el cuadro siguiente
+                if ("restoreToBackgroundColor".equals(disposal)) {
+                    g = canvas.createGraphics();
+                    g.setComposite(AlphaComposite.Clear);
+                    g.fillRect(x, y, raw.getWidth(), raw.getHeight());
+                    g.dispose();
+                } else if (previous != null) {
+                    canvas = previous;
+                }
+            }
+            return new GifAnimation(frames, ends);
+        } finally {
+            reader.dispose();
+        }
+    }
+
+    /**
+     * Duración de una pasada completa
+     */
+    public long getDurationMillis() {
+        return frameEnds.length == 0 ? 0 : frameEnds[frameEnds.length - 1];
+    }
+
+    /**
+     * Cuadro que corresponde al tiempo dado, repitiendo la animación
+     */
+    public Image frameAt(long millis) {
+        long duration = getDurationMillis();
+        return frame(duration > 0 ? Math.floorMod(millis, duration) : 0);
+    }
+
+    /**
+     * Cuadro que corresponde al tiempo dado sin repetir: al terminar queda el último
+     */
+    public Image frameOnce(long millis) {
+        return frame(Math.min(Math.max(0, millis), getDurationMillis() - 1));
+    }
+
+    private Image frame(long millis) {
+        if (frames.length == 0) return null;
+        int i = Arrays.binarySearch(frameEnds, millis + 1);
+        if (i < 0) i = -i - 1;
+        return frames[Math.min(i, frames.length - 1)];
+    }
+
+    /**
+     * La misma animación con cada cuadro escalado una sola vez (se guarda la última pedida).
+     * Dibujar sin escalar es mucho más barato que escalar en cada frame.
+     */
+    public GifAnimation scaledTo(int width, int height) {
+        if (frames.length == 0) return this;
+        if (frames[0].getWidth() == width && frames[0].getHeight() == height) return this;
+
+        GifAnimation s = scaled;
+        if (s != null && s.frames[0].getWidth() == width && s.frames[0].getHeight() == height) return s;
+
+        BufferedImage[] out = new BufferedImage[frames.length];
+        for (int i = 0; i < frames.length; i++) {
+            out[i] = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g = out[i].createGraphics();
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.drawImage(frames[i], 0, 0, width, height, null);
+            g.dispose();
+        }
+        s = new GifAnimation(out, frameEnds);
+        scaled = s;
+        return s;
+    }
+
+    private static Dimension screenSize(ImageReader reader) throws IOException {
+        if (reader.getStreamMetadata() == null) return null;
+        IIOMetadataNode meta = (IIOMetadataNode) reader.getStreamMetadata().getAsTree("javax_imageio_gif_stream_1.0");
+        Node screen = child(meta, "LogicalScreenDescriptor");
+        int w = intAttr(screen, "logicalScreenWidth", 0);
+        int h = intAttr(screen, "logicalScreenHeight", 0);
+        return w > 0 && h > 0 ? new Dimension(w, h) : null;
+    }
+
+    private static BufferedImage copy(BufferedImage src) {
+        BufferedImage out = new BufferedImage(src.getWidth(), src.getHeight(), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = out.createGraphics();
+        g.drawImage(src, 0, 0, null);
+        g.dispose();
+        return out;
+    }
+
+    private static Node child(IIOMetadataNode parent, String name) {
+        return parent.getElementsByTagName(name).getLength() > 0 ? parent.getElementsByTagName(name).item(0) : null;
+    }
+
+    private static String attr(Node node, String name) {
+        Node a = node.getAttributes().getNamedItem(name);
+        return a != null ? a.getNodeValue() : null;
+    }
+
+    private static int intAttr(Node node, String name, int fallback) {
+        if (node == null) return fallback;
+        String value = attr(node, name);
+        return value != null ? Integer.parseInt(value) : fallback;
+    }
+}
@@ -0,0 +1,110 @@
+package presentation;
+
+import domain.game.FrameSnapshot;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * HUD de la partida: puntajes, tiempo y el cartel de tiempo agotado.
+ * Fuentes y colores se crean una sola vez y cada texto se guarda ya dibujado en una imagen;
+ * solo se vuelve a armar cuando cambia su valor (el reloj, una vez por segundo).
+ * Un HUD por partida: lo usa solo quien dibuja.
+ */
+public class HudLayer {
+
+    private static final Font HUD_FONT = new Font("Arial", Font.BOLD, 18);
+    private static final Font TITLE_FONT = new Font("Arial", Font.BOLD, 48);
+    private static final Font SUBTITLE_FONT = new Font("Arial", Font.PLAIN, 24);
+
+    private static final Color SHADE = new Color(0, 0, 0, 180);
+
+    private final CachedText scoreP1 = new CachedText(HUD_FONT);
+    private final CachedText scoreP2 = new CachedText(HUD_FONT);
+    private final CachedText timer = new CachedText(HUD_FONT);
+    private final CachedText timeUp = new CachedText(TITLE_FONT);
+    private final CachedText restarting = new CachedText(SUBTITLE_FONT);
+
+    public void draw(Graphics2D g, FrameSnapshot frame, int width, int height) {
+        if (frame.getPlayerCount() == 0) return;
+
+        scoreP1.setNumber("P1: ", frame.getScoreP1(), Color.WHITE).draw(g, 10, 25);
+        if (frame.getPlayerCount() > 1) scoreP2.setNumber("P2: ", frame.getScoreP2(), Color.WHITE).draw(g, 10, 50);
+
+        int remainingSeconds = frame.getRemainingSeconds();
+        Color color = remainingSeconds < 10 ? Color.RED : remainingSeconds < 30 ? Color.YELLOW : Color.WHITE;
+        timer.setTime(remainingSeconds, color).draw(g, 200, 25);
+
+        if (frame.isTimeUp()) {
+            g.setColor(SHADE);
+            g.fillRect(0, 0, width, height);
+
+            int y = height / 2;
+            timeUp.setFixed("TIME UP!", Color.RED).drawCentered(g, width, y);
+            restarting.setFixed("Restarting...", Color.RED).drawCentered(g, width, y + 40);
+        }
+    }
+
+    /**
+     * Un texto dibujado en una imagen transparente, rearmada solo si cambia el valor o el color
+     */
+    private static final class CachedText {
+        private final Font font;
+        private BufferedImage image;
+        private int ascent;
+        private int value;
+        private Color color;
+
+        CachedText(Font font) {
+            this.font = font;
+        }
+
+        // Cada instancia muestra siempre el mismo prefijo o texto fijo, así alcanza con comparar valor y color
+        CachedText setNumber(String prefix, int value, Color color) {
+            if (image == null || value != this.value || !color.equals(this.color)) {
+                render(prefix + value, value, color);
+            }
+            return this;
+        }
+
+        CachedText setFixed(String text, Color color) {
+            if (image == null || !color.equals(this.color)) render(text, 0, color);
+            return this;
+        }
+
+        CachedText setTime(int seconds, Color color) {
+            if (image == null || seconds != this.value || !color.equals(this.color)) {
+                render(String.format("Time: %d:%02d", seconds / 60, seconds % 60), seconds, color);
+            }
+            return this;
+        }
+
+        private void render(String text, int value, Color color) {
+            this.value = value;
+            this.color = color;
+
+            BufferedImage probe = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D pg = probe.createGraphics();
+            FontMetrics fm = pg.getFontMetrics(font);
+            pg.dispose();
+
+            ascent = fm.getAscent();
+            image = new BufferedImage(Math.max(1, fm.stringWidth(text)), Math.max(1, ascent + fm.getDescent()),
+                    BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g = image.createGraphics();
+            g.setFont(font);
+            g.setColor(color);
+            g.drawString(text, 0, ascent);
+            g.dispose();
+        }
+
+        // x, baseline como en drawString
+        void draw(Graphics2D g, int x, int baseline) {
+            g.drawImage(image, x, baseline - ascent, null);
+        }
+
+        void drawCentered(Graphics2D g, int width, int baseline) {
+            draw(g, (width - image.getWidth()) / 2, baseline);
+        }
+    }
+}
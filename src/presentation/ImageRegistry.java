@@ -0,0 +1,151 @@
+package presentation;
+
+import javax.swing.*;
+import java.awt.*;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Registro compartido de imágenes decodificadas.
+ * Al iniciar el juego se decodifican todos los recursos en paralelo en un pool de fondo;
+ * las pantallas y entidades piden la imagen ya lista en vez de volver a decodificarla.
+ * Las imágenes sueltas usan ImageIcon (el GIF del menú conserva su animación de AWT);
+ * los GIF de las entidades se decodifican en cuadros para animarlos con el tiempo del juego.
+ */
+public final class ImageRegistry {
+
+    /**
+     * Recursos de imagen del juego (rutas del classpath)
+     */
+    private static final String[] ASSETS = {
+            // Pantallas
+            "/home-animation.gif", "/button-empty.png", "/click-button.png",
+            "/back-button-bg.jpg", "/back-button.jpg", "/player-bg.jpg",
+            "/kind-question.png", "/3-icecreams.png", "/P.png", "/pvp.png", "/pvm.png", "/mvm.png",
+            "/machine-1.png", "/machine-2.png", "/hungry.png", "/fearful.png", "/expert.png",
+            "/choose-flavour.png", "/joined-icecreams.png", "/player-1.png", "/player-2.png",
+            "/level-select.png", "/level-1.png", "/level-2.png", "/level-3.png",
+            "/pause-state.png", "/victory-state.png", "/game-over-state.png",
+
+            // Tablero
+            "/empty.jpg", "/wall.jpg", "/red-wall.jpg", "/yellow-wall.jpg", "/ice.jpg",
+            "/player-ice.png", "/pile-of-snow.jpg", "/igloo.jpg", "/hot-tile.png",
+            "/campfire-on.png", "/campfire-off.png", "/cactus-safe.png", "/cactus-not-safe.png",
+
+            // Frutas
+            "/cherry.png", "/banana.jpg", "/grape.jpg", "/pineapple.png",
+
+            // Jugadores
+            "/vanilla-dead.png", "/strawberry-dead.png", "/chocolate-dead.png",
+    };
+
+    /**
+     * GIF de entidades, que se decodifican cuadro por cuadro (ver GifAnimation)
+     */
+    private static final String[] ANIMATIONS = {
+            // Jugadores
+            "/vanilla-up.gif", "/vanilla-down.gif", "/vanilla-left.gif", "/vanilla-right.gif",
+            "/strawberry-up.gif", "/strawberry-down.gif", "/strawberry-left.gif", "/strawberry-right.gif",
+            "/chocolate-up.gif", "/chocolate-down.gif", "/chocolate-left.gif", "/chocolate-right.gif",
+            "/vanilla-death.gif", "/strawberry-death.gif", "/chocolate-death.gif",
+
+            // Enemigos
+            "/troll-up.gif", "/troll-down.gif", "/troll-left.gif", "/troll-right.gif",
+            "/maceta-up.gif", "/maceta-down.gif", "/maceta-left.gif", "/maceta-right.gif",
+            "/orange-squid-up.gif", "/orange-squid-down.gif", "/orange-squid-left.gif", "/orange-squid-right.gif",
+            "/narval-up.gif", "/narval-down.gif", "/narval-left.gif", "/narval-right.gif",
+            "/narval-up-drill.gif", "/narval-down-drill.gif", "/narval-left-drill.gif", "/narval-right-drill.gif",
+    };
+
+    private static final Map<String, CompletableFuture<Image>> images = new ConcurrentHashMap<>();
+    private static final Map<String, CompletableFuture<GifAnimation>> animations = new ConcurrentHashMap<>();
+
+    private static final ExecutorService pool = Executors.newFixedThreadPool(
+            Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors())),
+            r -> {
+                Thread t = new Thread(r, "image-loader");
+                t.setDaemon(true);
+                return t;
+            });
+
+    private ImageRegistry() {}
+
+    /**
+     * Lanza la decodificación de todos los recursos conocidos sin bloquear
+     */
+    public static void preloadAll() {
+        for (String path : ASSETS) {
+            preload(path);
+        }
+        for (String path : ANIMATIONS) {
+            preloadAnimation(path);
+        }
+    }
+
+    /**
+     * Lanza (una sola vez) la decodificación de la imagen en el pool de fondo
+     */
+    public static CompletableFuture<Image> preload(String path) {
+        return images.computeIfAbsent(path,
+                p -> CompletableFuture.supplyAsync(() -> decode(p), pool));
+    }
+
+    /**
+     * Retorna la imagen decodificada; si todavía se está cargando espera a que termine.
+     * Lanza la misma excepción que la decodificación (por ejemplo si el recurso no existe).
+     */
+    public static Image get(String path) {
+        try {
+            return preload(path).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Lanza (una sola vez) la decodificación cuadro por cuadro de un GIF en el pool de fondo
+     */
+    public static CompletableFuture<GifAnimation> preloadAnimation(String path) {
+        return animations.computeIfAbsent(path,
+                p -> CompletableFuture.supplyAsync(() -> decodeAnimation(p), pool));
+    }
+
+    /**
+     * Retorna el GIF ya decodificado en cuadros; igual que get, espera si todavía se está cargando
+     */
+    public static GifAnimation animation(String path) {
+        try {
+            return preloadAnimation(path).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static GifAnimation decodeAnimation(String path) {
+        URL url = Objects.requireNonNull(ImageRegistry.class.getResource(path), path);
+        try {
+            return GifAnimation.decode(url);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Image decode(String path) {
+        URL url = Objects.requireNonNull(ImageRegistry.class.getResource(path), path);
+        return new ImageIcon(url).getImage();
+    }
+}
@@ -4,9 +4,7 @@ import domain.game.Game;
 import domain.game.GameState;
 import domain.game.PlayingState;
 
-import javax.swing.*;
 import java.awt.*;
-import java.util.Objects;
 
 /**
  * Pantalla de menú principal con GIF de fondo y botón "CLICK TO LICK".
@@ -28,17 +26,9 @@ public class MenuState implements GameState {
         this.game = game;
 
         try {
-            this.introGif = new ImageIcon(
-                    Objects.requireNonNull(getClass().getResource("/home-animation.gif"))
-            ).getImage();
-
-            this.bgButtonImage = new ImageIcon(
-                    Objects.requireNonNull(getClass().getResource("/button-empty.png"))
-            ).getImage();
-
-            this.textButtonImage = new ImageIcon(
-                    Objects.requireNonNull(getClass().getResource("/click-button.png"))
-            ).getImage();
+            this.introGif = ImageRegistry.get("/home-animation.gif");
+            this.bgButtonImage = ImageRegistry.get("/button-empty.png");
+            this.textButtonImage = ImageRegistry.get("/click-button.png");
 
         } catch (Exception e) {
             System.err.println("Error cargando recursos: " + e.getMessage());
@@ -1,9 +1,7 @@
 package presentation;
 
 import domain.game.*;
-import javax.swing.*;
 import java.awt.*;
-import java.util.Objects;
 
 public class SelectLevelState implements GameState {
 
@@ -62,14 +60,14 @@ public class SelectLevelState implements GameState {
 
     private void loadAssets() {
         try {
-            this.backgroundGif = new ImageIcon(Objects.requireNonNull(getClass().getResource("/home-animation.gif"))).getImage();
-            this.buttonBackBg = new ImageIcon(Objects.requireNonNull(getClass().getResource("/back-button-bg.jpg"))).getImage();
-            this.backButton = new ImageIcon(Objects.requireNonNull(getClass().getResource("/back-button.jpg"))).getImage();
-            this.playerBg = new ImageIcon(Objects.requireNonNull(getClass().getResource("/player-bg.jpg"))).getImage();
-            this.levelSelect = new ImageIcon(Objects.requireNonNull(getClass().getResource("/level-select.png"))).getImage();
-            this.levelOne = new ImageIcon(Objects.requireNonNull(getClass().getResource("/level-1.png"))).getImage();
-            this.levelTwo = new ImageIcon(Objects.requireNonNull(getClass().getResource("/level-2.png"))).getImage();
-            this.levelThree = new ImageIcon(Objects.requireNonNull(getClass().getResource("/level-3.png"))).getImage();
+            this.backgroundGif = ImageRegistry.get("/home-animation.gif");
+            this.buttonBackBg = ImageRegistry.get("/back-button-bg.jpg");
+            this.backButton = ImageRegistry.get("/back-button.jpg");
+            this.playerBg = ImageRegistry.get("/player-bg.jpg");
+            this.levelSelect = ImageRegistry.get("/level-select.png");
+            this.levelOne = ImageRegistry.get("/level-1.png");
+            this.levelTwo = ImageRegistry.get("/level-2.png");
+            this.levelThree = ImageRegistry.get("/level-3.png");
         } catch (Exception e) {
             System.err.println("Error cargando recursos: " + e.getMessage());
         }
@@ -3,9 +3,7 @@ package presentation;
 import domain.game.Game;
 import domain.game.GameState;
 
-import javax.swing.*;
 import java.awt.*;
-import java.util.Objects;
 
 public class SelectModeState implements GameState {
 
@@ -53,45 +51,16 @@ public class SelectModeState implements GameState {
         this.game = game;
 
         try {
-            this.backgroundGif = new ImageIcon(
-                    Objects.requireNonNull(getClass().getResource("/home-animation.gif"))
-            ).getImage();
-
-            this.buttonBackBg = new ImageIcon(
-                    Objects.requireNonNull(getClass().getResource("/back-button-bg.jpg"))
-            ).getImage();
-
-            this.backButton = new ImageIcon(
-                    Objects.requireNonNull(getClass().getResource("/back-button.jpg"))
-            ).getImage();
-
-            this.playerBg = new ImageIcon(
-                    Objects.requireNonNull(getClass().getResource("/player-bg.jpg"))
-            ).getImage();
-
-            this.kindScoop = new ImageIcon(
-                    Objects.requireNonNull(getClass().getResource("/kind-question.png"))
-            ).getImage();
-
-            this.iceCreams = new ImageIcon(
-                    Objects.requireNonNull(getClass().getResource("/3-icecreams.png"))
-            ).getImage();
-
-            this.P = new ImageIcon(
-                    Objects.requireNonNull(getClass().getResource("/P.png"))
-            ).getImage();
-
-            this.PvP = new ImageIcon(
-                    Objects.requireNonNull(getClass().getResource("/pvp.png"))
-            ).getImage();
-
-            this.PvM = new ImageIcon(
-                    Objects.requireNonNull(getClass().getResource("/pvm.png"))
-            ).getImage();
-
-            this.MvM = new ImageIcon(
-                    Objects.requireNonNull(getClass().getResource("/mvm.png"))
-            ).getImage();
+            this.backgroundGif = ImageRegistry.get("/home-animation.gif");
+            this.buttonBackBg = ImageRegistry.get("/back-button-bg.jpg");
+            this.backButton = ImageRegistry.get("/back-button.jpg");
+            this.playerBg = ImageRegistry.get("/player-bg.jpg");
+            this.kindScoop = ImageRegistry.get("/kind-question.png");
+            this.iceCreams = ImageRegistry.get("/3-icecreams.png");
+            this.P = ImageRegistry.get("/P.png");
+            this.PvP = ImageRegistry.get("/pvp.png");
+            this.PvM = ImageRegistry.get("/pvm.png");
+            this.MvM = ImageRegistry.get("/mvm.png");
 
         } catch (Exception e) {
             System.err.println("Error cargando recursos: " + e.getMessage());
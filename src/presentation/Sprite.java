@@ -1,8 +1,6 @@
-package domain.entities;
+package presentation;
 
-import javax.swing.*;
 import java.awt.*;
-import java.util.Objects;
 
 /**
  * Maneja los Sprites estáticos
@@ -12,9 +10,7 @@ public class Sprite {
     private final Image image;
 
     public Sprite(String resourcePath) {
-        this.image = new ImageIcon(
-                Objects.requireNonNull(getClass().getResource(resourcePath))
-        ).getImage();
+        this.image = ImageRegistry.get(resourcePath);
     }
 
     public void draw(Graphics2D g, int x, int y, int w, int h) {